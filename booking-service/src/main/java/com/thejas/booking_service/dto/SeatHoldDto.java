@@ -0,0 +1,14 @@
+package com.thejas.booking_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class SeatHoldDto {
+    private Long id;
+    private Long flightId;
+    private Integer numSeats;
+    private String status;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.thejas.booking_service.dto;
+
+import lombok.Data;
+
+@Data
+public class SeatHoldRequest {
+    private Long flightId;
+    private int numSeats;
+    private Integer ttlSeconds; // null for the flight-service default
+}
@@ -1,6 +1,7 @@
 package com.thejas.booking_service.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -30,4 +31,10 @@ public class Booking {
 
     @Column(nullable = false)
     private String status = "CONFIRMED"; 
+
+    // Seat hold in flight-service backing this booking; null for bookings made before holds
+    private Long seatHoldId;
+
+    // When the hold lapses; an unpaid booking is cancelled once this has passed
+    private LocalDateTime holdExpiresAt;
 }
@@ -1,12 +1,15 @@
 package com.thejas.booking_service.feign;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import com.thejas.booking_service.dto.FlightResponseDto;
+import com.thejas.booking_service.dto.SeatHoldDto;
+import com.thejas.booking_service.dto.SeatHoldRequest;
 import com.thejas.booking_service.dto.SeatUpdateRequest;
 
 @FeignClient(name = "flight-service", configuration = com.thejas.booking_service.config.FeignConfig.class)
@@ -17,4 +20,16 @@ public interface FlightFeignClient {
 
       @PostMapping("/api/flights/reduceSeats")
     void reduceSeats(@RequestBody SeatUpdateRequest request);
+
+    @PostMapping("/api/flights/restoreSeats")
+    void restoreSeats(@RequestBody SeatUpdateRequest request);
+
+    @PostMapping("/api/flights/holds")
+    SeatHoldDto createSeatHold(@RequestBody SeatHoldRequest request);
+
+    @PostMapping("/api/flights/holds/{id}/commit")
+    SeatHoldDto commitSeatHold(@PathVariable("id") Long holdId);
+
+    @DeleteMapping("/api/flights/holds/{id}")
+    SeatHoldDto releaseSeatHold(@PathVariable("id") Long holdId);
 }
@@ -1,12 +1,27 @@
 package com.thejas.booking_service.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.thejas.booking_service.entity.Booking;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByUserEmail(String userEmail);
     Booking findByIdAndUserEmail(Long id, String userEmail);
+
+    /**
+     * Cancels unpaid bookings whose seat hold lapsed before {@code cutoff}; paid
+     * bookings have left CONFIRMED, so a payment racing this is never undone.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Booking b SET b.status = 'CANCELLED' WHERE b.status = 'CONFIRMED' " +
+           "AND b.holdExpiresAt IS NOT NULL AND b.holdExpiresAt < :cutoff")
+    int cancelUnpaidWithHoldExpiredBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,28 +1,37 @@
 package com.thejas.booking_service.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.stream.Collectors;
 
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.thejas.booking_service.dto.BookingRequestDto;
 import com.thejas.booking_service.dto.FlightResponseDto;
+import com.thejas.booking_service.dto.SeatHoldDto;
+import com.thejas.booking_service.dto.SeatHoldRequest;
 import com.thejas.booking_service.dto.SeatUpdateRequest;
 import com.thejas.booking_service.entity.Booking;
 import com.thejas.booking_service.feign.FlightFeignClient;
 import com.thejas.booking_service.repository.BookingRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
+    private static final Duration HOLD_EXPIRY_GRACE = Duration.ofMinutes(1);
+
     private final BookingRepository bookingRepository;
     private final FlightFeignClient flightClient;
 
@@ -34,25 +43,45 @@ public class BookingService {
         throw new RuntimeException("Not enough seats available.");
     }
 
-    // 1. Proceed with booking
+    // 1. Hold the seats; flight-service returns them if the booking is not paid in time
+    SeatHoldRequest holdRequest = new SeatHoldRequest();
+    holdRequest.setFlightId(Long.parseLong(request.getFlightId()));
+    holdRequest.setNumSeats(request.getNumSeats());
+    SeatHoldDto hold = flightClient.createSeatHold(holdRequest);
+
+    // 2. Proceed with booking
     Booking booking = new Booking();
     booking.setUserEmail(userEmail);
     booking.setFlightId(request.getFlightId());
     booking.setNumSeats(request.getNumSeats());
     booking.setBookingDate(LocalDate.now());
     booking.setTotalAmount(flight.getPrice() * request.getNumSeats());
+    // Unpaid until payment commits the hold; shown to the user with "Pay Now"
+    booking.setStatus("CONFIRMED");
+    booking.setSeatHoldId(hold.getId());
+    booking.setHoldExpiresAt(hold.getExpiresAt());
 
-    Booking saved = bookingRepository.save(booking);
-
-    // 2. Reduce seats in Flight Service
-    SeatUpdateRequest seatUpdate = new SeatUpdateRequest();
-    seatUpdate.setFlightId(Long.parseLong(request.getFlightId()));
-    seatUpdate.setNumSeats(request.getNumSeats());
-    flightClient.reduceSeats(seatUpdate);
-
-    return saved;
+    try {
+        return bookingRepository.save(booking);
+    } catch (RuntimeException e) {
+        flightClient.releaseSeatHold(hold.getId());
+        throw e;
+    }
 }
 
+    /**
+     * Cancels unpaid bookings whose seat hold has lapsed. flight-service has already
+     * returned the seats by then; the grace period lets its expiry run first, so a
+     * payment can no longer commit the hold once the booking is cancelled here.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void cancelExpiredHolds() {
+        int cancelled = bookingRepository.cancelUnpaidWithHoldExpiredBefore(LocalDateTime.now().minus(HOLD_EXPIRY_GRACE));
+        if (cancelled > 0) {
+            log.info("Cancelled {} unpaid bookings whose seat hold expired", cancelled);
+        }
+    }
+
     public List<Booking> getBookingsByUser(String userEmail) {
         return bookingRepository.findByUserEmail(userEmail);
     }
@@ -74,10 +103,7 @@ public class BookingService {
         }
     
         // 1. Restore seats in Flight Service
-        SeatUpdateRequest request = new SeatUpdateRequest();
-        request.setFlightId(Long.parseLong(booking.getFlightId()));
-        request.setNumSeats(-booking.getNumSeats()); // negative to increase seats
-        flightClient.reduceSeats(request); // same endpoint used, works like increment here
+        restoreSeats(booking);
     
         // 2. Update booking status
         booking.setStatus("CANCELLED");
@@ -106,6 +132,10 @@ public class BookingService {
 
     public Booking updateBookingStatus(Long id, String status) {
         Booking booking = getBookingById(id);
+        // Payment keeps the held seats; fails if the hold has already expired
+        if ("PAID".equals(status) && !"PAID".equals(booking.getStatus()) && booking.getSeatHoldId() != null) {
+            flightClient.commitSeatHold(booking.getSeatHoldId());
+        }
         booking.setStatus(status);
         return bookingRepository.save(booking);
     }
@@ -118,10 +148,7 @@ public class BookingService {
         }
 
         // Restore seats
-        SeatUpdateRequest request = new SeatUpdateRequest();
-        request.setFlightId(Long.parseLong(booking.getFlightId()));
-        request.setNumSeats(-booking.getNumSeats());
-        flightClient.reduceSeats(request);
+        restoreSeats(booking);
 
         booking.setStatus("CANCELLED");
         return bookingRepository.save(booking);
@@ -227,29 +254,41 @@ public class BookingService {
     public int bulkCancelBookingsByFlight(Long flightId) {
         List<Booking> bookings = getBookingsByFlightId(flightId);
         int cancelledCount = 0;
+        int restoredSeats = 0;
         
         for (Booking booking : bookings) {
             if (!"CANCELLED".equals(booking.getStatus())) {
+                if (booking.getSeatHoldId() != null) {
+                    flightClient.releaseSeatHold(booking.getSeatHoldId());
+                } else {
+                    restoredSeats += booking.getNumSeats();
+                }
                 booking.setStatus("CANCELLED");
                 bookingRepository.save(booking);
                 cancelledCount++;
             }
         }
         
-        // Restore seats for all cancelled bookings
-        if (cancelledCount > 0) {
-            int totalSeats = bookings.stream()
-                    .filter(b -> "CANCELLED".equals(b.getStatus()))
-                    .mapToInt(Booking::getNumSeats)
-                    .sum();
-            
+        // Restore seats for cancelled bookings made before seat holds
+        if (restoredSeats > 0) {
             SeatUpdateRequest request = new SeatUpdateRequest();
             request.setFlightId(flightId);
-            request.setNumSeats(-totalSeats);
-            flightClient.reduceSeats(request);
+            request.setNumSeats(restoredSeats);
+            flightClient.restoreSeats(request);
         }
         
         return cancelledCount;
     }
-    
+
+    // Releasing a hold is idempotent, so a hold that already expired returns nothing twice
+    private void restoreSeats(Booking booking) {
+        if (booking.getSeatHoldId() != null) {
+            flightClient.releaseSeatHold(booking.getSeatHoldId());
+            return;
+        }
+        SeatUpdateRequest request = new SeatUpdateRequest();
+        request.setFlightId(Long.parseLong(booking.getFlightId()));
+        request.setNumSeats(booking.getNumSeats());
+        flightClient.restoreSeats(request);
+    }
 }
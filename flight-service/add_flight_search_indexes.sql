@@ -0,0 +1,9 @@
+-- B-tree indexes are declared on the Flight entity and created by ddl-auto=update.
+-- The admin advanced search filters flight number, airline, source and destination
+-- with substring matches (LIKE '%term%'), which need trigram indexes instead.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_flight_flight_number_trgm ON flight USING gin (flight_number gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_flight_airline_trgm ON flight USING gin (airline gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_flight_source_trgm ON flight USING gin (source gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_flight_destination_trgm ON flight USING gin (destination gin_trgm_ops);
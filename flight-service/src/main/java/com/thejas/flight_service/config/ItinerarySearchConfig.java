@@ -0,0 +1,29 @@
+package com.thejas.flight_service.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ItinerarySearchConfig {
+
+    /**
+     * Fixed pool with a bounded queue, so a burst of searches cannot pile up unbounded
+     * work or starve the common pool; tasks over capacity are rejected.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService itinerarySearchExecutor(ItinerarySearchProperties properties) {
+        AtomicInteger threads = new AtomicInteger();
+        return new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()), r -> {
+                    Thread thread = new Thread(r, "itinerary-search-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
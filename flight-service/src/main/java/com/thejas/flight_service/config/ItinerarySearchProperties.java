@@ -0,0 +1,26 @@
+package com.thejas.flight_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Worker pool and time budget for connecting-itinerary search.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "flight.itinerary-search")
+public class ItinerarySearchProperties {
+
+    /** Threads exploring first legs, shared by all searches. */
+    private int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** First-leg tasks that may wait for a thread; beyond this a search returns partial results. */
+    private int queueCapacity = 1000;
+
+    /** Wall-clock budget of one search, including the time its tasks wait in the queue. */
+    private Duration budget = Duration.ofMillis(250);
+}
@@ -0,0 +1,86 @@
+package com.thejas.flight_service.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.thejas.flight_service.dto.CacheRegionStatistics;
+
+/**
+ * In-process Hibernate second-level cache provider with size and TTL eviction, set via
+ * {@code hibernate.cache.region.factory_class}. Limits come from
+ * {@code hibernate.cache.local.max_entries}, {@code hibernate.cache.local.ttl_seconds} and,
+ * for query results, {@code hibernate.cache.local.query_ttl_seconds}.
+ *
+ * <p>The update-timestamps region is never bounded: dropping a table's timestamp would
+ * make older cached query results look current. {@code READ_WRITE} soft locks are kept
+ * for the lock timeout regardless of the limits (see {@link LocalCacheStorage}).
+ */
+public class LocalCacheRegionFactory extends RegionFactoryTemplate {
+
+    public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+    public static final String TTL_SECONDS = "hibernate.cache.local.ttl_seconds";
+    public static final String QUERY_TTL_SECONDS = "hibernate.cache.local.query_ttl_seconds";
+
+    private final Map<String, LocalCacheStorage> regions = new ConcurrentHashMap<>();
+    private int maxEntries;
+    private long ttlNanos;
+    private long queryTtlNanos;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        maxEntries = intSetting(configValues, MAX_ENTRIES, 10_000);
+        ttlNanos = TimeUnit.SECONDS.toNanos(intSetting(configValues, TTL_SECONDS, 300));
+        queryTtlNanos = TimeUnit.SECONDS.toNanos(intSetting(configValues, QUERY_TTL_SECONDS, 60));
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return register(regionConfig.getRegionName(), maxEntries, ttlNanos);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return register(regionName, maxEntries, queryTtlNanos);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return register(regionName, 0, 0);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(LocalCacheStorage::release);
+        regions.clear();
+    }
+
+    public List<CacheRegionStatistics> statistics() {
+        return regions.values().stream().map(LocalCacheStorage::statistics).toList();
+    }
+
+    private LocalCacheStorage register(String regionName, int regionMaxEntries, long regionTtlNanos) {
+        LocalCacheStorage storage = new LocalCacheStorage(regionName, regionMaxEntries, regionTtlNanos,
+                TimeUnit.MILLISECONDS.toNanos(getTimeout() / SimpleTimestamper.ONE_MS));
+        regions.put(regionName, storage);
+        return storage;
+    }
+
+    private static int intSetting(Map<String, Object> configValues, String name, int defaultValue) {
+        Object value = configValues.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.toString().trim());
+    }
+}
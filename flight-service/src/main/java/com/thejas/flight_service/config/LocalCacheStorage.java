@@ -0,0 +1,141 @@
+package com.thejas.flight_service.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import com.thejas.flight_service.dto.CacheRegionStatistics;
+
+/**
+ * One second-level cache region: an access-ordered LRU map bounded to {@code maxEntries}
+ * whose entries expire {@code ttlNanos} after they were written. A bound or TTL of 0
+ * disables that limit.
+ *
+ * <p>{@code READ_WRITE} regions park a {@link SoftLock} under a key while it is updated,
+ * and keep the unlocked one for a while after so readers that started earlier cannot
+ * cache the old row. Such an entry is pinned for {@code lockTtlNanos} (Hibernate's lock
+ * timeout) after it was written: neither the bound nor the TTL removes it before then,
+ * since a missing entry would let any reader cache what it loaded.
+ */
+class LocalCacheStorage implements DomainDataStorageAccess {
+
+    private final String region;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long lockTtlNanos;
+    private final LongSupplier nanoTime;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    LocalCacheStorage(String region, int maxEntries, long ttlNanos, long lockTtlNanos) {
+        this(region, maxEntries, ttlNanos, lockTtlNanos, System::nanoTime);
+    }
+
+    LocalCacheStorage(String region, int maxEntries, long ttlNanos, long lockTtlNanos, LongSupplier nanoTime) {
+        this.region = region;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.lockTtlNanos = lockTtlNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Object value;
+        synchronized (entries) {
+            value = liveValue(key);
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        long now = nanoTime.getAsLong();
+        long expiresAt = ttlNanos > 0 ? now + ttlNanos : Long.MAX_VALUE;
+        long pinnedUntil = value instanceof SoftLock ? now + lockTtlNanos : now;
+        synchronized (entries) {
+            entries.put(key, new Entry(value, expiresAt, pinnedUntil));
+            if (maxEntries > 0 && entries.size() > maxEntries) {
+                evictLeastRecentlyUsed(now);
+            }
+        }
+        puts.increment();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        synchronized (entries) {
+            return liveValue(key) != null;
+        }
+    }
+
+    @Override
+    public void evictData() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public void evictData(Object key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    CacheRegionStatistics statistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheRegionStatistics(region, size, hits.sum(), misses.sum(), puts.sum(), evictions.sum());
+    }
+
+    private Object liveValue(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = nanoTime.getAsLong();
+        if (entry.expiresAt - now < 0 && !entry.isPinned(now)) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry.value;
+    }
+
+    // Oldest unpinned entries go first; pinned ones are few, as locks live one update
+    private void evictLeastRecentlyUsed(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (!iterator.next().isPinned(now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry(Object value, long expiresAt, long pinnedUntil) {
+        boolean isPinned(long now) {
+            return pinnedUntil - now > 0;
+        }
+    }
+}
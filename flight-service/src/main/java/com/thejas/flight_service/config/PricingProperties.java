@@ -0,0 +1,28 @@
+package com.thejas.flight_service.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * Fare curves for dynamic pricing. Thresholds are ascending; each curve has one more
+ * multiplier than thresholds, the first applying below the lowest threshold.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "flight.pricing")
+public class PricingProperties {
+
+    private boolean enabled = true;
+
+    /** Occupancy percentages at which the next multiplier starts to apply. */
+    private List<Double> occupancyThresholds = List.of(50.0, 70.0, 85.0, 95.0);
+    private List<Double> occupancyMultipliers = List.of(1.0, 1.1, 1.25, 1.5, 1.8);
+
+    /** Days before departure below which the corresponding multiplier applies. */
+    private List<Integer> daysToDepartureThresholds = List.of(3, 7, 21);
+    private List<Double> daysToDepartureMultipliers = List.of(1.4, 1.2, 1.05, 1.0);
+}
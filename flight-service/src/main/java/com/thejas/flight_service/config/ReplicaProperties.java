@@ -0,0 +1,23 @@
+package com.thejas.flight_service.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Read replica for read-only transactions. Routing is enabled only when {@code url} is set.
+ */
+@Data
+@ConfigurationProperties(prefix = "flight.datasource.replica")
+public class ReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+
+    /** Staleness budget: reads go back to the primary while the replica lags more than this. */
+    private Duration maxLag = Duration.ofSeconds(5);
+}
@@ -0,0 +1,40 @@
+package com.thejas.flight_service.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a read in a read-only transaction that may be served by the read replica. Only
+ * reads that tolerate the replica's staleness budget opt in here; every other read,
+ * including Spring Data's own read-only repository transactions, stays on the primary.
+ * Without a configured replica this is just a read-only transaction.
+ */
+@Component
+public class ReplicaReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReplicaReads(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> T execute(Supplier<T> read) {
+        boolean previous = ACTIVE.get();
+        ACTIVE.set(true);
+        try {
+            return readOnlyTransaction.execute(status -> read.get());
+        } finally {
+            ACTIVE.set(previous);
+        }
+    }
+
+    static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
@@ -0,0 +1,69 @@
+package com.thejas.flight_service.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Target of read-only transactions: the replica for reads made through {@link ReplicaReads}
+ * while its replay lag is within the staleness budget, the primary otherwise (including
+ * until the first lag check and whenever the replica cannot be reached).
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    // Seconds since the last replayed transaction, or 0 when the replica has replayed all it received
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+    private volatile boolean replicaFresh = false;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaProperties properties) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaFresh && ReplicaReads.isActive() ? REPLICA : PRIMARY;
+    }
+
+    public boolean isReplicaFresh() {
+        return replicaFresh;
+    }
+
+    @Scheduled(fixedDelayString = "${flight.datasource.replica.lag-check-interval:1000}")
+    public void checkReplicaLag() {
+        boolean fresh;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            fresh = lag != null && lag <= maxLagSeconds;
+            if (!fresh && replicaFresh) {
+                log.warn("Replica lag {}s exceeds {}s; routing reads to the primary", lag, maxLagSeconds);
+            }
+        } catch (RuntimeException e) {
+            fresh = false;
+            if (replicaFresh) {
+                log.warn("Replica unreachable; routing reads to the primary", e);
+            }
+        }
+        if (fresh && !replicaFresh) {
+            log.info("Replica within {}s staleness budget; routing reads to it", maxLagSeconds);
+        }
+        replicaFresh = fresh;
+    }
+}
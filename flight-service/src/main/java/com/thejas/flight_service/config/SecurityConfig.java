@@ -2,12 +2,14 @@ package com.thejas.flight_service.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -21,11 +23,18 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf().disable()
             .authorizeHttpRequests()
+            // Streaming responses (SSE, NDJSON) finish on an async dispatch of an already authorized request
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/actuator/**").permitAll() // Optional for health checks
             .requestMatchers("/api/flights/search", "/api/flights").hasAnyRole("USER", "ADMIN")
             .requestMatchers("/api/flights/add").hasRole("ADMIN")
             .requestMatchers("/api/flights/{id}").hasAnyRole("USER", "ADMIN")
-            .requestMatchers("/api/flights/reduceSeats").hasAnyRole("ADMIN", "USER")
+            .requestMatchers("/api/flights/reduceSeats", "/api/flights/restoreSeats").hasAnyRole("ADMIN", "USER")
+            // Commit keeps the seats for good; booking-service calls it once a booking is paid
+            .requestMatchers(HttpMethod.POST, "/api/flights/holds/{id}/commit").hasRole("ADMIN")
+            .requestMatchers("/api/flights/holds", "/api/flights/holds/**").hasAnyRole("ADMIN", "USER")
+            .requestMatchers("/api/flights/{id}/seats", "/api/flights/{id}/seats/**").hasAnyRole("ADMIN", "USER")
+            .requestMatchers("/api/flights/{id}/availability/stream").hasAnyRole("ADMIN", "USER")
             .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
             .anyRequest().permitAll()
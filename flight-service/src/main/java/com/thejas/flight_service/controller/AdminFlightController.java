@@ -1,7 +1,19 @@
 package com.thejas.flight_service.controller;
 
+import com.thejas.flight_service.dto.BulkPriceUpdateJob;
+import com.thejas.flight_service.dto.CacheRegionStatistics;
+import com.thejas.flight_service.dto.CabinLayout;
+import com.thejas.flight_service.dto.CabinSeatMap;
+import com.thejas.flight_service.dto.FlightImportJob;
+import com.thejas.flight_service.dto.FlightPatch;
+import com.thejas.flight_service.dto.FlightSearchPage;
+import com.thejas.flight_service.dto.FlightStatistics;
+import com.thejas.flight_service.dto.FlightSummary;
 import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.service.BulkPriceUpdateService;
+import com.thejas.flight_service.service.FlightImportService;
 import com.thejas.flight_service.service.FlightService;
+import com.thejas.flight_service.service.SeatMapService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -13,10 +25,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/flights")
@@ -25,6 +37,9 @@ import java.util.Map;
 public class AdminFlightController {
 
     private final FlightService flightService;
+    private final BulkPriceUpdateService bulkPriceUpdateService;
+    private final SeatMapService seatMapService;
+    private final FlightImportService flightImportService;
 
     @GetMapping
     public ResponseEntity<Page<Flight>> getAllFlights(
@@ -47,6 +62,25 @@ public class AdminFlightController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdFlight);
     }
 
+    /**
+     * Bulk schedule import, run in the background; poll the returned job for its report.
+     * The body is streamed to disk, so files of any size can be posted.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<FlightImportJob> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(flightImportService.submitCsv(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<FlightImportJob> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(flightImportService.submitNdjson(body));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<FlightImportJob> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(flightImportService.getJob(jobId));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Flight> updateFlight(
             @PathVariable Long id,
@@ -57,6 +91,13 @@ public class AdminFlightController {
         return ResponseEntity.ok(updatedFlight);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Flight> patchFlight(
+            @PathVariable Long id,
+            @RequestBody FlightPatch patch) {
+        return ResponseEntity.ok(flightService.patchFlight(id, patch));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteFlight(@PathVariable Long id) {
         flightService.deleteFlight(id);
@@ -69,62 +110,80 @@ public class AdminFlightController {
         return ResponseEntity.ok(cancelledFlight);
     }
 
+    @PutMapping("/{id}/seats")
+    public ResponseEntity<List<CabinSeatMap>> configureSeatMap(
+            @PathVariable Long id,
+            @RequestBody List<CabinLayout> cabins) {
+        return ResponseEntity.ok(seatMapService.configureCabins(id, cabins));
+    }
+
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getFlightStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalFlights", flightService.getTotalFlightsCount());
-        stats.put("activeFlights", flightService.getActiveFlightsCount());
-        stats.put("cancelledFlights", flightService.getCancelledFlightsCount());
-        stats.put("flightsByAirline", flightService.getFlightCountByAirline());
-        stats.put("availableSeats", flightService.getTotalAvailableSeats());
-        stats.put("bookingRate", flightService.getAverageBookingRate());
-        
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<FlightStatistics> getFlightStatistics() {
+        return ResponseEntity.ok(flightService.getFlightStatistics());
+    }
+
+    @GetMapping("/cache-statistics")
+    public ResponseEntity<List<CacheRegionStatistics>> getCacheStatistics() {
+        return ResponseEntity.ok(flightService.getCacheStatistics());
     }
 
     @GetMapping("/search/advanced")
-    public ResponseEntity<List<Flight>> advancedSearch(
+    public ResponseEntity<FlightSearchPage> advancedSearch(
             @RequestParam(required = false) String flightNumber,
             @RequestParam(required = false) String airline,
             @RequestParam(required = false) String origin,
             @RequestParam(required = false) String destination,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departureTo,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "departureDateTime") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String cursor) {
         
-        List<Flight> flights = flightService.advancedSearch(
-            flightNumber, airline, origin, destination, departureFrom, departureTo, status
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
+            ? Sort.Direction.DESC : Sort.Direction.ASC;
+        FlightSearchPage flights = flightService.advancedSearch(
+            flightNumber, airline, origin, destination, departureFrom, departureTo, status,
+            sortBy, direction, size, cursor
         );
         return ResponseEntity.ok(flights);
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Flight>> getUpcomingFlights(
+    public ResponseEntity<List<FlightSummary>> getUpcomingFlights(
             @RequestParam(defaultValue = "24") int hours) {
         
-        List<Flight> upcomingFlights = flightService.getUpcomingFlights(hours);
+        List<FlightSummary> upcomingFlights = flightService.getUpcomingFlights(hours);
         return ResponseEntity.ok(upcomingFlights);
     }
 
     @GetMapping("/low-occupancy")
-    public ResponseEntity<List<Flight>> getLowOccupancyFlights(
+    public ResponseEntity<List<FlightSummary>> getLowOccupancyFlights(
             @RequestParam(defaultValue = "30") int thresholdPercentage) {
         
-        List<Flight> lowOccupancyFlights = flightService.getLowOccupancyFlights(thresholdPercentage);
+        List<FlightSummary> lowOccupancyFlights = flightService.getLowOccupancyFlights(thresholdPercentage);
         return ResponseEntity.ok(lowOccupancyFlights);
     }
 
+    @GetMapping("/low-occupancy/bottom")
+    public ResponseEntity<List<FlightSummary>> getLeastOccupiedFlights(
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        return ResponseEntity.ok(flightService.getLeastOccupiedFlights(limit));
+    }
+
     @PostMapping("/bulk-update-prices")
-    public ResponseEntity<Map<String, Object>> bulkUpdatePrices(
+    public ResponseEntity<BulkPriceUpdateJob> bulkUpdatePrices(
             @RequestParam String airline,
             @RequestParam double percentageChange) {
         
-        int updatedCount = flightService.bulkUpdatePrices(airline, percentageChange);
-        Map<String, Object> response = new HashMap<>();
-        response.put("updatedFlights", updatedCount);
-        response.put("airline", airline);
-        response.put("percentageChange", percentageChange);
-        
-        return ResponseEntity.ok(response);
+        BulkPriceUpdateJob job = bulkPriceUpdateService.submit(airline, percentageChange);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/bulk-update-prices/{jobId}")
+    public ResponseEntity<BulkPriceUpdateJob> getBulkUpdatePricesJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkPriceUpdateService.getJob(jobId));
     }
 }
\ No newline at end of file
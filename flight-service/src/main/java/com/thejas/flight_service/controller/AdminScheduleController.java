@@ -0,0 +1,40 @@
+package com.thejas.flight_service.controller;
+
+import com.thejas.flight_service.entity.FlightSchedule;
+import com.thejas.flight_service.service.FlightScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/schedules")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminScheduleController {
+
+    private final FlightScheduleService flightScheduleService;
+
+    @PostMapping
+    public ResponseEntity<FlightSchedule> createSchedule(@RequestBody FlightSchedule schedule) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(flightScheduleService.createSchedule(schedule));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<FlightSchedule>> getAllSchedules() {
+        return ResponseEntity.ok(flightScheduleService.getAllSchedules());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<FlightSchedule> getSchedule(@PathVariable Long id) {
+        return ResponseEntity.ok(flightScheduleService.getSchedule(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<FlightSchedule> deactivateSchedule(@PathVariable Long id) {
+        return ResponseEntity.ok(flightScheduleService.deactivateSchedule(id));
+    }
+}
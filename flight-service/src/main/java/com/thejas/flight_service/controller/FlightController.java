@@ -1,9 +1,13 @@
 package com.thejas.flight_service.controller;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,13 +15,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.thejas.flight_service.dto.CabinSeatMap;
+import com.thejas.flight_service.dto.FareDay;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.dto.Itinerary;
+import com.thejas.flight_service.dto.ItineraryResults;
+import com.thejas.flight_service.dto.SeatAssignment;
+import com.thejas.flight_service.dto.SeatAssignmentRequest;
 import com.thejas.flight_service.dto.SeatUpdateRequest;
 import com.thejas.flight_service.entity.Flight;
-import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.index.SuggestionIndex;
 import com.thejas.flight_service.service.FlightService;
+import com.thejas.flight_service.service.ItinerarySearchService;
+import com.thejas.flight_service.service.SeatAvailabilityBroadcaster;
+import com.thejas.flight_service.service.SeatMapService;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,38 +44,145 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FlightController {
 
-    private final FlightRepository flightRepository;
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final String PARTIAL_RESULTS_HEADER = "X-Search-Partial";
 
     private final FlightService flightService;
 
+    private final ItinerarySearchService itinerarySearchService;
+
+    private final SuggestionIndex suggestionIndex;
+
+    private final SeatMapService seatMapService;
+
+    private final SeatAvailabilityBroadcaster seatAvailabilityBroadcaster;
+
     @PostMapping("/reduceSeats")
     public ResponseEntity<String> reduceSeats(@RequestBody SeatUpdateRequest request) {
         flightService.reduceSeats(request.getFlightId(), request.getNumSeats());
         return ResponseEntity.ok("Seats reduced");
     }
 
+    @PostMapping("/restoreSeats")
+    public ResponseEntity<String> restoreSeats(@RequestBody SeatUpdateRequest request) {
+        flightService.restoreSeats(request.getFlightId(), request.getNumSeats());
+        return ResponseEntity.ok("Seats restored");
+    }
+
     @GetMapping("/search")
-    public List<Flight> searchFlights(@RequestParam String source,
-                                      @RequestParam String destination,
-                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        return flightRepository.findBySourceAndDestinationAndDepartureDate(source, destination, date);
+    public ResponseEntity<List<FlightSummary>> searchFlights(@RequestParam String source,
+                                                             @RequestParam String destination,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                             WebRequest request) {
+        String etag = flightService.searchETag(source, destination, date);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok(flightService.searchFlights(source, destination, date));
+    }
+
+    @GetMapping("/suggest")
+    public Map<SuggestionIndex.Field, List<String>> suggest(@RequestParam String q,
+                                                            @RequestParam(required = false) SuggestionIndex.Field field,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        int max = Math.min(limit, MAX_SUGGESTIONS);
+        Map<SuggestionIndex.Field, List<String>> suggestions = new EnumMap<>(SuggestionIndex.Field.class);
+        for (SuggestionIndex.Field f : field != null ? List.of(field) : List.of(SuggestionIndex.Field.values())) {
+            suggestions.put(f, suggestionIndex.suggest(f, q, max));
+        }
+        return suggestions;
+    }
+
+    @GetMapping("/fare-calendar")
+    public List<FareDay> getFareCalendar(@RequestParam String source,
+                                         @RequestParam String destination,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                         @RequestParam(defaultValue = "3") int flexDays) {
+        return flightService.getFareCalendar(source, destination, date, flexDays);
+    }
+
+    /**
+     * Sets {@code X-Search-Partial: true} when the search ran out of time before it was
+     * exhaustive.
+     */
+    @GetMapping("/itineraries")
+    public ResponseEntity<List<Itinerary>> searchItineraries(@RequestParam String source,
+                                                             @RequestParam String destination,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                             @RequestParam(defaultValue = "1") int maxStops,
+                                                             @RequestParam(defaultValue = "45") int minConnectionMinutes,
+                                                             @RequestParam(defaultValue = "360") int maxConnectionMinutes,
+                                                             @RequestParam(defaultValue = "1") int seats,
+                                                             @RequestParam(defaultValue = "price") String sortBy,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        ItineraryResults results = itinerarySearchService.search(source, destination, date, maxStops,
+                Duration.ofMinutes(minConnectionMinutes), Duration.ofMinutes(maxConnectionMinutes),
+                seats, sortBy, limit);
+        return ResponseEntity.ok()
+                .header(PARTIAL_RESULTS_HEADER, String.valueOf(results.isPartial()))
+                .body(results.getItineraries());
     }
 
     @PostMapping("/add")
     public ResponseEntity<String> addFlight(@RequestBody Flight flight) {
-        flightRepository.save(flight);
+        flightService.createFlight(flight);
         return ResponseEntity.ok("Flight added successfully");
     }
 
+    /**
+     * Answers {@code If-None-Match} from in-memory versions, so an unchanged flight costs
+     * a 304 without a database read.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Flight> getFlightById(@PathVariable Long id) {
-        return flightRepository.findById(id)
+    public ResponseEntity<Flight> getFlightById(@PathVariable Long id, WebRequest request) {
+        String etag = flightService.flightETag(id);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        return flightService.getFlightById(id, etag != null)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Live seat count as Server-Sent Events: the current count first, then coalesced changes.
+     */
+    @GetMapping(value = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatAvailability(@PathVariable Long id) {
+        return seatAvailabilityBroadcaster.subscribe(id, () -> flightService.getSeatAvailability(id));
+    }
+
+    @GetMapping("/{id}/seats")
+    public List<CabinSeatMap> getSeatMap(@PathVariable Long id) {
+        return seatMapService.getSeatMap(id);
+    }
+
+    @PostMapping("/{id}/seats/assign")
+    public SeatAssignment assignSeats(@PathVariable Long id, @RequestBody SeatAssignmentRequest request,
+                                      Authentication authentication) {
+        return seatMapService.assignSeats(id, request, authentication);
+    }
+
+    @PostMapping("/{id}/seats/release")
+    public SeatAssignment releaseSeats(@PathVariable Long id, @RequestBody SeatAssignmentRequest request,
+                                       Authentication authentication) {
+        return seatMapService.releaseSeats(id, request, authentication);
+    }
+
     @GetMapping
     public List<Flight> allFlights() {
-        return flightRepository.findAll();
+        return flightService.getAllFlights();
+    }
+
+    /**
+     * Full catalog as NDJSON for partner integrations; selected with {@code Accept: application/x-ndjson}.
+     */
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllFlights() {
+        StreamingResponseBody body = flightService::streamAllFlights;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
     }
 }
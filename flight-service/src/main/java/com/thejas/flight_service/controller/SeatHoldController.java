@@ -0,0 +1,47 @@
+package com.thejas.flight_service.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.thejas.flight_service.dto.SeatHoldRequest;
+import com.thejas.flight_service.entity.SeatHold;
+import com.thejas.flight_service.service.SeatHoldService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/flights/holds")
+@RequiredArgsConstructor
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    @PostMapping
+    public ResponseEntity<SeatHold> createHold(@RequestBody SeatHoldRequest request, Authentication authentication) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(seatHoldService.createHold(request, authentication.getName()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SeatHold> getHold(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(seatHoldService.getHold(id, authentication));
+    }
+
+    @PostMapping("/{id}/commit")
+    public ResponseEntity<SeatHold> commitHold(@PathVariable Long id) {
+        return ResponseEntity.ok(seatHoldService.commitHold(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<SeatHold> releaseHold(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(seatHoldService.releaseHold(id, authentication));
+    }
+}
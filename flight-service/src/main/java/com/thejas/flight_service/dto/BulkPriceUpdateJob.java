@@ -0,0 +1,22 @@
+package com.thejas.flight_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/**
+ * Progress and outcome of an asynchronous bulk price update, polled by job id.
+ */
+@Data
+public class BulkPriceUpdateJob {
+    private String jobId;
+    private String airline;
+    private double percentageChange;
+    // Written by the worker thread, read by pollers
+    private volatile String status = "QUEUED";
+    private volatile long totalFlights;
+    private volatile long updatedFlights;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+}
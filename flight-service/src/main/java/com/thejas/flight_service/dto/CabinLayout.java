@@ -0,0 +1,11 @@
+package com.thejas.flight_service.dto;
+
+import lombok.Data;
+
+@Data
+public class CabinLayout {
+    private String cabin;
+    private String layout; // seat letters per row, space for an aisle, e.g. "ABC DEF"
+    private int firstRow;
+    private int rowCount;
+}
@@ -0,0 +1,16 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class CabinSeatMap {
+    String cabin;
+    String layout;
+    int firstRow;
+    int rowCount;
+    int capacity;
+    int available;
+    List<String> occupied;
+}
@@ -0,0 +1,18 @@
+package com.thejas.flight_service.dto;
+
+import lombok.Value;
+
+@Value
+public class CacheRegionStatistics {
+    String region;
+    int size;
+    long hits;
+    long misses;
+    long puts;
+    long evictions;
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
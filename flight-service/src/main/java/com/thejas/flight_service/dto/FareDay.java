@@ -0,0 +1,17 @@
+package com.thejas.flight_service.dto;
+
+import java.time.LocalDate;
+
+import lombok.Value;
+
+/**
+ * Cheapest bookable fare on one day of a route; {@code minFare} and
+ * {@code flightId} are {@code null} when nothing is bookable that day.
+ */
+@Value
+public class FareDay {
+    LocalDate date;
+    Double minFare;
+    Long flightId;
+    int availableFlights;
+}
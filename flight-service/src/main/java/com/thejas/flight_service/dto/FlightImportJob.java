@@ -0,0 +1,20 @@
+package com.thejas.flight_service.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+/**
+ * Progress and outcome of an asynchronous flight import, polled by job id. The report
+ * fills in while the job runs.
+ */
+@Data
+public class FlightImportJob {
+    private String jobId;
+    private final FlightImportReport report = new FlightImportReport();
+    // Written by the worker thread, read by pollers
+    private volatile String status = "QUEUED";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+}
@@ -0,0 +1,29 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.Data;
+import lombok.Value;
+
+/**
+ * Outcome of a bulk flight import. Only the first {@code errors} are listed;
+ * {@code rejectedRows} counts all of them.
+ */
+@Data
+public class FlightImportReport {
+    private volatile String format;
+    // Written by the import thread, read by pollers while it runs
+    private volatile long rowsRead;
+    private volatile long importedRows;
+    private volatile long rejectedRows;
+    private volatile long elapsedMillis;
+    private volatile double rowsPerSecond;
+    private List<RowError> errors = new CopyOnWriteArrayList<>();
+
+    @Value
+    public static class RowError {
+        long line;
+        String message;
+    }
+}
@@ -0,0 +1,71 @@
+package com.thejas.flight_service.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.thejas.flight_service.entity.Flight;
+
+import lombok.Data;
+
+/**
+ * Partial flight update: {@code null} fields are left as they are. With a
+ * {@code version}, the patch only applies to that version of the flight.
+ */
+@Data
+public class FlightPatch {
+    private Long version;
+    private String flightNumber;
+    private String airline;
+    private String source;
+    private String destination;
+    private LocalDate departureDate;
+    private String departureTime;
+    private LocalDateTime departureDateTime;
+    private LocalDateTime arrivalDateTime;
+    private Integer availableSeats;
+    private Integer totalSeats;
+    private Double price;
+    private String status;
+
+    public void applyTo(Flight flight) {
+        if (flightNumber != null) {
+            flight.setFlightNumber(flightNumber);
+        }
+        if (airline != null) {
+            flight.setAirline(airline);
+        }
+        if (source != null) {
+            flight.setSource(source);
+        }
+        if (destination != null) {
+            flight.setDestination(destination);
+        }
+        if (departureDateTime != null) {
+            // Cleared so the entity derives the legacy pair from the new date-time
+            flight.setDepartureDate(null);
+            flight.setDepartureTime(null);
+            flight.setDepartureDateTime(departureDateTime);
+        }
+        if (departureDate != null) {
+            flight.setDepartureDate(departureDate);
+        }
+        if (departureTime != null) {
+            flight.setDepartureTime(departureTime);
+        }
+        if (arrivalDateTime != null) {
+            flight.setArrivalDateTime(arrivalDateTime);
+        }
+        if (availableSeats != null) {
+            flight.setAvailableSeats(availableSeats);
+        }
+        if (totalSeats != null) {
+            flight.setTotalSeats(totalSeats);
+        }
+        if (price != null) {
+            flight.setPrice(price);
+        }
+        if (status != null) {
+            flight.setStatus(status);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import com.thejas.flight_service.entity.Flight;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One keyset page of admin search results. {@code nextCursor} is {@code null}
+ * on the last page and is passed back unchanged to fetch the following page.
+ */
+@Data
+@AllArgsConstructor
+public class FlightSearchPage {
+    private List<Flight> content;
+    private int size;
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.thejas.flight_service.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FlightStatistics {
+    private long totalFlights;
+    private long activeFlights;
+    private long cancelledFlights;
+    private Map<String, Long> flightsByAirline;
+    private long availableSeats;
+    private double bookingRate;
+}
@@ -0,0 +1,58 @@
+package com.thejas.flight_service.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.thejas.flight_service.entity.Flight;
+
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Immutable, compact view of a flight held by the in-memory indexes and
+ * returned by the search endpoints.
+ */
+@Value
+public class FlightSummary {
+    Long id;
+    String flightNumber;
+    String airline;
+    String source;
+    String destination;
+    LocalDate departureDate;
+    LocalDateTime departureTime;
+    LocalDateTime arrivalDateTime;
+    @With int availableSeats;
+    int totalSeats;
+    @With double price;
+    @With String status;
+    @With Long version;
+    LocalDateTime updatedAt;
+
+    /**
+     * Booked share of the cabin in percent; 0 when the total seat count is unknown.
+     */
+    @JsonIgnore
+    public double getOccupancyPercentage() {
+        return totalSeats > 0 ? (double) (totalSeats - availableSeats) / totalSeats * 100 : 0;
+    }
+
+    public static FlightSummary from(Flight flight) {
+        return new FlightSummary(
+                flight.getId(),
+                flight.getFlightNumber(),
+                flight.getAirline(),
+                flight.getSource(),
+                flight.getDestination(),
+                flight.getDepartureDate(),
+                flight.getDepartureTime(),
+                flight.getArrivalDateTime(),
+                flight.getAvailableSeats(),
+                flight.getTotalSeats(),
+                flight.getPrice(),
+                flight.getStatus(),
+                flight.getVersion(),
+                flight.getUpdatedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * A direct or connecting journey; legs are in travel order.
+ */
+@Value
+public class Itinerary {
+    List<FlightSummary> legs;
+    double totalPrice;
+    long totalDurationMinutes;
+
+    public int getStops() {
+        return legs.size() - 1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * Itineraries in result order; {@code partial} when the search ran out of time before
+ * exploring every branch, so better itineraries may exist.
+ */
+@Value
+public class ItineraryResults {
+    List<Itinerary> itineraries;
+    boolean partial;
+}
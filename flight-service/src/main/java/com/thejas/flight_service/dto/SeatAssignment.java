@@ -0,0 +1,12 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class SeatAssignment {
+    Long flightId;
+    String cabin;
+    List<String> seats;
+}
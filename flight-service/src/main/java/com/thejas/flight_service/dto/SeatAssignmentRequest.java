@@ -0,0 +1,13 @@
+package com.thejas.flight_service.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class SeatAssignmentRequest {
+    private Long holdId;        // the seat hold the seats are picked for
+    private String cabin;
+    private List<String> seats; // explicit seats, e.g. ["12A", "12B"]
+    private Integer count;      // or let the service pick this many seats together
+}
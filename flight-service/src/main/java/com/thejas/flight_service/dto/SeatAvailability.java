@@ -0,0 +1,18 @@
+package com.thejas.flight_service.dto;
+
+import lombok.Value;
+
+/**
+ * Seat count of one flight as pushed to availability subscribers.
+ */
+@Value
+public class SeatAvailability {
+    Long flightId;
+    int availableSeats;
+    int totalSeats;
+    String status;
+
+    public static SeatAvailability from(FlightSummary flight) {
+        return new SeatAvailability(flight.getId(), flight.getAvailableSeats(), flight.getTotalSeats(), flight.getStatus());
+    }
+}
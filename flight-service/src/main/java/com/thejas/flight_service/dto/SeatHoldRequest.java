@@ -0,0 +1,10 @@
+package com.thejas.flight_service.dto;
+
+import lombok.Data;
+
+@Data
+public class SeatHoldRequest {
+    private Long flightId;
+    private int numSeats;
+    private Integer ttlSeconds;
+}
@@ -2,22 +2,51 @@ package com.thejas.flight_service.entity;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.persistence.Column;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_flight_route_date", columnList = "source, destination, departure_date"),
+    @Index(name = "idx_flight_departure", columnList = "departure_date_time, id"),
+    @Index(name = "idx_flight_price", columnList = "price, id"),
+    @Index(name = "idx_flight_status", columnList = "status"),
+    @Index(name = "idx_flight_updated_at", columnList = "updated_at, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// UPDATEs name only the columns that changed, so a partial edit never rewrites seat counts
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Flight {
 
+    private static final DateTimeFormatter DEPARTURE_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,6 +63,9 @@ public class Flight {
     @Column(name = "departure_date_time")
     private LocalDateTime departureDateTime;
 
+    @Column(name = "arrival_date_time")
+    private LocalDateTime arrivalDateTime;
+
     private int availableSeats;
     
     @Column(name = "total_seats", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
@@ -43,6 +75,17 @@ public class Flight {
     
     @Column(columnDefinition = "VARCHAR(50) DEFAULT 'ACTIVE'")
     private String status = "ACTIVE";
+
+    // Database clock, as for the JDBC writes that set it with LOCALTIMESTAMP
+    @UpdateTimestamp(source = SourceType.DB)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP DEFAULT LOCALTIMESTAMP")
+    private LocalDateTime updatedAt;
+
+    // Bumped by every write, including the JDBC seat updates, so a stale admin edit fails
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
     
     // Helper methods for backward compatibility
     public String getOrigin() {
@@ -54,18 +97,37 @@ public class Flight {
     }
     
     public LocalDateTime getDepartureTime() {
-        if (departureDateTime != null) {
-            return departureDateTime;
+        return departureDateTime;
+    }
+
+    /**
+     * Keeps the indexed departure_date_time column in step with the legacy
+     * departureDate/departureTime pair, so readers never have to parse strings.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeDepartureDateTime() {
+        LocalTime time = parseDepartureTime(departureTime);
+        if (departureDate != null && time != null) {
+            departureDateTime = departureDate.atTime(time);
+        } else if (departureDateTime != null) {
+            departureDate = departureDateTime.toLocalDate();
+            departureTime = departureDateTime.toLocalTime().format(DEPARTURE_TIME_FORMAT);
+        }
+    }
+
+    private static LocalTime parseDepartureTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] timeParts = value.trim().split(":");
+        if (timeParts.length < 2) {
+            return null;
         }
-        // Fallback: combine departureDate and departureTime string
-        if (departureDate != null && departureTime != null) {
-            String[] timeParts = departureTime.split(":");
-            if (timeParts.length >= 2) {
-                int hour = Integer.parseInt(timeParts[0]);
-                int minute = Integer.parseInt(timeParts[1]);
-                return departureDate.atTime(hour, minute);
-            }
+        try {
+            return LocalTime.of(Integer.parseInt(timeParts[0]), Integer.parseInt(timeParts[1]));
+        } catch (RuntimeException e) {
+            return null;
         }
-        return LocalDateTime.now();
     }
 }
@@ -0,0 +1,58 @@
+package com.thejas.flight_service.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A recurring flight that is expanded into dated {@link Flight} rows. {@code daysOfWeek}
+ * lists the operating days as digits, 1 = Monday to 7 = Sunday (e.g. "1357").
+ * {@code expandedThrough} is the last date already expanded, so expansion only ever
+ * generates the dates after it.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_flight_schedule_status", columnList = "status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightSchedule {
+
+    public static final String ACTIVE = "ACTIVE";
+    public static final String INACTIVE = "INACTIVE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String flightNumber;
+    private String airline;
+
+    private String source;
+    private String destination;
+
+    @Column(length = 7)
+    private String daysOfWeek;
+
+    private LocalDate validFrom;
+    private LocalDate validTo;
+
+    private String departureTime;
+    private int durationMinutes;
+
+    private int totalSeats;
+    private double price;
+
+    @Column(nullable = false, length = 20)
+    private String status = ACTIVE;
+
+    private LocalDate expandedThrough;
+}
@@ -0,0 +1,57 @@
+package com.thejas.flight_service.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seats taken out of a flight's inventory for a limited time. A hold is either
+ * committed (on payment) or goes back to the flight when released or expired.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_seat_hold_status", columnList = "status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHold {
+
+    public static final String HELD = "HELD";
+    public static final String COMMITTED = "COMMITTED";
+    public static final String RELEASED = "RELEASED";
+    public static final String EXPIRED = "EXPIRED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long flightId;
+
+    private int numSeats;
+
+    @Column(nullable = false, length = 20)
+    private String status = HELD;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+
+    // User the hold was created for; only they (or an admin) may pick its seats
+    private String owner;
+
+    // Seats picked on the seat map for this hold, all in one cabin, comma-separated
+    @Column(length = 20)
+    private String cabin;
+
+    @Column(length = 2000)
+    private String seats;
+}
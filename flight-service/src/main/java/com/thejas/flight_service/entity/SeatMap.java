@@ -0,0 +1,43 @@
+package com.thejas.flight_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seat layout and occupancy of one cabin of a flight. Occupancy is a bitset with one
+ * bit per seat (see {@code SeatGrid}), so a whole cabin is a single small row.
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_seat_map_flight_cabin", columnNames = {"flight_id", "cabin"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMap {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "flight_id", nullable = false)
+    private Long flightId;
+
+    @Column(nullable = false, length = 20)
+    private String cabin;
+
+    @Column(nullable = false, length = 100)
+    private String layout;
+
+    private int firstRow;
+
+    private int rowCount;
+
+    private byte[] occupancy;
+}
@@ -0,0 +1,65 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Departure-ordered view of non-cancelled flights. "Departing in the next N hours"
+ * is a sub-map lookup whose cost grows with the number of matches, not the table.
+ */
+@Component
+public class DepartureTimeline implements FlightChangeListener {
+
+    private static final Comparator<TimelineKey> ORDER =
+            Comparator.comparing(TimelineKey::departure).thenComparing(TimelineKey::id);
+
+    private final ConcurrentSkipListMap<TimelineKey, FlightSummary> timeline = new ConcurrentSkipListMap<>(ORDER);
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (isTracked(previous)) {
+            timeline.remove(TimelineKey.of(previous));
+        }
+        if (isTracked(current)) {
+            timeline.put(TimelineKey.of(current), current);
+        }
+    }
+
+    /**
+     * Flights departing strictly between {@code from} and {@code to}, in departure order.
+     */
+    public List<FlightSummary> departingBetween(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+        return new ArrayList<>(timeline.subMap(
+                new TimelineKey(from, Long.MAX_VALUE), false,
+                new TimelineKey(to, Long.MIN_VALUE), false).values());
+    }
+
+    // Departed flights never show up in upcoming queries again
+    @Scheduled(fixedDelay = 3_600_000)
+    public void pruneDeparted() {
+        timeline.headMap(new TimelineKey(LocalDateTime.now(), Long.MIN_VALUE)).clear();
+    }
+
+    private static boolean isTracked(FlightSummary flight) {
+        return flight != null
+                && flight.getDepartureTime() != null
+                && !"CANCELLED".equals(flight.getStatus());
+    }
+
+    private record TimelineKey(LocalDateTime departure, Long id) {
+        static TimelineKey of(FlightSummary flight) {
+            return new TimelineKey(flight.getDepartureTime(), flight.getId());
+        }
+    }
+}
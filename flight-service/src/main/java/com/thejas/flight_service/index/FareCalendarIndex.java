@@ -0,0 +1,153 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FareDay;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.service.PricingEngine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cheapest bookable fare per (source, destination, day). Each day keeps the live fares
+ * of its bookable flights so the minimum can be recomputed when the cheapest one sells
+ * out or changes; readers only see the published {@link FareDay}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FareCalendarIndex implements FlightChangeListener {
+
+    private final PricingEngine pricingEngine;
+
+    private final Map<RoutePair, NavigableMap<LocalDate, DayFares>> calendar = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (isBookable(previous)) {
+            // Drops the day once its last flight is gone, and the route with its last day
+            calendar.computeIfPresent(RoutePair.of(previous), (route, days) -> {
+                DayFares day = days.get(previous.getDepartureDate());
+                if (day != null) {
+                    day.remove(previous.getId());
+                    if (day.isEmpty()) {
+                        days.remove(previous.getDepartureDate());
+                    }
+                }
+                return days.isEmpty() ? null : days;
+            });
+        }
+        if (isBookable(current)) {
+            dayOf(current).put(current, pricingEngine.liveFare(current));
+        }
+    }
+
+    /**
+     * Live fares also depend on the days left before departure, which changes without any
+     * write; re-price every day shortly after midnight.
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public synchronized void reprice() {
+        for (NavigableMap<LocalDate, DayFares> days : calendar.values()) {
+            for (DayFares day : days.values()) {
+                day.reprice(pricingEngine);
+            }
+        }
+    }
+
+    /**
+     * One entry per day from {@code from} to {@code to} inclusive, empty days included.
+     */
+    public List<FareDay> fares(String source, String destination, LocalDate from, LocalDate to) {
+        NavigableMap<LocalDate, DayFares> days = calendar.getOrDefault(new RoutePair(source, destination),
+                new ConcurrentSkipListMap<>());
+        List<FareDay> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayFares day = days.get(date);
+            result.add(day != null ? day.cheapest : new FareDay(date, null, null, 0));
+        }
+        return result;
+    }
+
+    private DayFares dayOf(FlightSummary flight) {
+        return calendar.computeIfAbsent(RoutePair.of(flight), r -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(flight.getDepartureDate(), DayFares::new);
+    }
+
+    private static boolean isBookable(FlightSummary flight) {
+        return flight != null
+                && flight.getDepartureDate() != null
+                && flight.getAvailableSeats() > 0
+                && !"CANCELLED".equals(flight.getStatus());
+    }
+
+    private static final class DayFares {
+        private final LocalDate date;
+        private final Map<Long, FlightSummary> flights = new HashMap<>();
+        private final Map<Long, Double> fares = new HashMap<>();
+        private volatile FareDay cheapest;
+
+        private DayFares(LocalDate date) {
+            this.date = date;
+            this.cheapest = new FareDay(date, null, null, 0);
+        }
+
+        private void put(FlightSummary flight, double fare) {
+            Long flightId = flight.getId();
+            flights.put(flightId, flight);
+            fares.put(flightId, fare);
+            if (cheapest.getMinFare() == null || fare < cheapest.getMinFare()) {
+                cheapest = new FareDay(date, fare, flightId, fares.size());
+            } else if (flightId.equals(cheapest.getFlightId())) {
+                recompute();
+            } else {
+                cheapest = new FareDay(date, cheapest.getMinFare(), cheapest.getFlightId(), fares.size());
+            }
+        }
+
+        private void remove(Long flightId) {
+            flights.remove(flightId);
+            if (fares.remove(flightId) != null) {
+                recompute();
+            }
+        }
+
+        private void reprice(PricingEngine pricingEngine) {
+            for (FlightSummary flight : flights.values()) {
+                fares.put(flight.getId(), pricingEngine.liveFare(flight));
+            }
+            recompute();
+        }
+
+        private boolean isEmpty() {
+            return fares.isEmpty();
+        }
+
+        private void recompute() {
+            Long bestId = null;
+            double best = Double.POSITIVE_INFINITY;
+            for (Map.Entry<Long, Double> entry : fares.entrySet()) {
+                if (entry.getValue() < best) {
+                    best = entry.getValue();
+                    bestId = entry.getKey();
+                }
+            }
+            cheapest = new FareDay(date, bestId == null ? null : best, bestId, fares.size());
+        }
+    }
+
+    private record RoutePair(String source, String destination) {
+        static RoutePair of(FlightSummary flight) {
+            return new RoutePair(flight.getSource(), flight.getDestination());
+        }
+    }
+}
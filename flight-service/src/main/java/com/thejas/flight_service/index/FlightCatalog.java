@@ -0,0 +1,447 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightStatistics;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.entity.Flight;
+
+/**
+ * Column-oriented copy of the flight table for admin scans and aggregates. Each field is
+ * a primitive array indexed by row; flight numbers, airlines, airports and statuses are
+ * dictionary codes, and times are epoch seconds. A row costs about 80 bytes, plus 4 for
+ * the id-to-row slot, against several hundred for a {@code Flight} with its strings and
+ * time objects, and a filter touches only the columns it tests, so a full scan is a few
+ * tight loops over arrays.
+ *
+ * <p>Written only from {@link FlightSearchIndex} callbacks, which are serialized. Scans
+ * take no lock: they read the columns published when they start, and a row changed
+ * during a scan may be seen with some fields old and some new.
+ */
+@Component
+public class FlightCatalog implements FlightChangeListener {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final long MAX_DENSE_ID = Integer.MAX_VALUE - 8;
+    private static final int NO_CODE = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final String CANCELLED = "CANCELLED";
+
+    private final Dictionary flightNumbers = new Dictionary();
+    private final Dictionary airlines = new Dictionary();
+    private final Dictionary airports = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+
+    // Row + 1 by flight id (0 = none): ids come from a sequence, so a plain array is dense enough
+    private int[] rowsById = new int[INITIAL_CAPACITY];
+    private final Map<Long, Integer> rowsByLargeId = new HashMap<>();
+    private int[] freeRows = new int[16];
+    private int freeRowCount;
+
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    // Rows below this index have been written at least once
+    private volatile int rowCount;
+
+    /**
+     * Filter of the admin advanced search: text fields match on substring, status exactly,
+     * and departure is an exclusive range. {@code null} fields do not restrict.
+     */
+    public record Filter(String flightNumber, String airline, String source, String destination,
+                         String status, LocalDateTime departureFrom, LocalDateTime departureTo) {
+    }
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (current == null) {
+            remove(previous.getId());
+            return;
+        }
+        int row = rowOf(current.getId());
+        if (row < 0) {
+            row = allocateRow();
+            setRow(current.getId(), row);
+        }
+        write(row, current);
+    }
+
+    /**
+     * Up to {@code limit} flights matching {@code filter}, ordered by {@code sortBy}
+     * ({@code id}, {@code price} or {@code departureDateTime}) then id, starting strictly
+     * after ({@code afterValue}, {@code afterId}) when {@code afterId} is given. Missing
+     * departure times sort last ascending and first descending, as in PostgreSQL.
+     */
+    public List<Flight> find(Filter filter, String sortBy, boolean ascending,
+                             Comparable<?> afterValue, Long afterId, int limit) {
+        Columns c = columns;
+        int rows = Math.min(rowCount, c.ids.length);
+        boolean[] flightNumberMatch = flightNumbers.containing(filter.flightNumber());
+        boolean[] airlineMatch = airlines.containing(filter.airline());
+        boolean[] sourceMatch = airports.containing(filter.source());
+        boolean[] destinationMatch = airports.containing(filter.destination());
+        int statusCode = filter.status() == null ? NO_CODE : statuses.code(filter.status());
+        if (filter.status() != null && statusCode == NO_CODE) {
+            return List.of();
+        }
+        long departureFrom = filter.departureFrom() == null ? NO_TIME : epochSecond(filter.departureFrom());
+        long departureTo = filter.departureTo() == null ? NO_TIME : lastSecondBefore(filter.departureTo());
+
+        int direction = ascending ? 1 : -1;
+        double afterKey = afterId == null ? 0 : sortKey(afterValue);
+        long afterRowId = afterId == null ? 0 : afterId;
+        Comparator<Candidate> order = (a, b) -> direction * compare(a.key, a.id, b.key, b.id);
+        // Worst candidate on top, evicted when a better one comes along
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, order.reversed());
+
+        for (int row = 0; row < rows; row++) {
+            long id = c.ids[row];
+            if (id == 0
+                    || !matches(flightNumberMatch, c.flightNumbers[row])
+                    || !matches(airlineMatch, c.airlines[row])
+                    || !matches(sourceMatch, c.sources[row])
+                    || !matches(destinationMatch, c.destinations[row])
+                    || (statusCode != NO_CODE && c.statuses[row] != statusCode)) {
+                continue;
+            }
+            long departure = c.departures[row];
+            if ((departureFrom != NO_TIME && (departure == NO_TIME || departure <= departureFrom))
+                    || (departureTo != NO_TIME && (departure == NO_TIME || departure > departureTo))) {
+                continue;
+            }
+            double key = switch (sortBy) {
+                case "price" -> c.prices[row];
+                case "departureDateTime" -> departure == NO_TIME ? Double.POSITIVE_INFINITY : departure;
+                default -> id;
+            };
+            if (afterId != null && direction * compare(key, id, afterKey, afterRowId) <= 0) {
+                continue;
+            }
+            if (best.size() == limit) {
+                Candidate worst = best.peek();
+                if (direction * compare(key, id, worst.key, worst.id) >= 0) {
+                    continue;
+                }
+                best.poll();
+            }
+            best.add(new Candidate(key, id, row));
+        }
+
+        List<Candidate> sorted = new ArrayList<>(best);
+        sorted.sort(order);
+        List<Flight> flights = new ArrayList<>(sorted.size());
+        for (Candidate candidate : sorted) {
+            flights.add(toFlight(c, candidate.row));
+        }
+        return flights;
+    }
+
+    /**
+     * Dashboard totals in one pass over the seat and code columns.
+     */
+    public FlightStatistics statistics() {
+        Columns c = columns;
+        int rows = Math.min(rowCount, c.ids.length);
+        int cancelledCode = statuses.code(CANCELLED);
+        long[] byAirlineCode = new long[airlines.size()];
+        long unknownAirline = 0;
+        long total = 0;
+        long cancelled = 0;
+        long availableSeats = 0;
+        double bookingRateSum = 0;
+
+        for (int row = 0; row < rows; row++) {
+            if (c.ids[row] == 0) {
+                continue;
+            }
+            total++;
+            if (cancelledCode != NO_CODE && c.statuses[row] == cancelledCode) {
+                cancelled++;
+            }
+            int available = c.availableSeats[row];
+            int seats = c.totalSeats[row];
+            availableSeats += available;
+            if (seats > 0) {
+                bookingRateSum += (seats - available) * 100.0 / seats;
+            }
+            int airline = c.airlines[row];
+            if (airline == NO_CODE) {
+                unknownAirline++;
+            } else {
+                if (airline >= byAirlineCode.length) {
+                    byAirlineCode = Arrays.copyOf(byAirlineCode, airlines.size());
+                }
+                byAirlineCode[airline]++;
+            }
+        }
+
+        Map<String, Long> byAirline = new HashMap<>();
+        for (int code = 0; code < byAirlineCode.length; code++) {
+            if (byAirlineCode[code] > 0) {
+                byAirline.merge(airlines.value(code), byAirlineCode[code], Long::sum);
+            }
+        }
+        if (unknownAirline > 0) {
+            byAirline.merge("UNKNOWN", unknownAirline, Long::sum);
+        }
+        double bookingRate = total == 0 ? 0.0 : bookingRateSum / total;
+        return new FlightStatistics(total, total - cancelled, cancelled, byAirline, availableSeats, bookingRate);
+    }
+
+    private void write(int row, FlightSummary flight) {
+        Columns c = columns;
+        c.flightNumbers[row] = flightNumbers.encode(flight.getFlightNumber());
+        c.airlines[row] = airlines.encode(flight.getAirline());
+        c.sources[row] = airports.encode(flight.getSource());
+        c.destinations[row] = airports.encode(flight.getDestination());
+        c.statuses[row] = statuses.encode(flight.getStatus());
+        c.departureDates[row] = flight.getDepartureDate() == null ? NO_DATE : (int) flight.getDepartureDate().toEpochDay();
+        c.departures[row] = flight.getDepartureTime() == null ? NO_TIME : epochSecond(flight.getDepartureTime());
+        c.arrivals[row] = flight.getArrivalDateTime() == null ? NO_TIME : epochSecond(flight.getArrivalDateTime());
+        c.availableSeats[row] = flight.getAvailableSeats();
+        c.totalSeats[row] = flight.getTotalSeats();
+        c.prices[row] = flight.getPrice();
+        c.versions[row] = flight.getVersion() == null ? NO_VERSION : flight.getVersion();
+        c.updatedAts[row] = flight.getUpdatedAt() == null ? NO_TIME : epochMicro(flight.getUpdatedAt());
+        // Written last, so a scan never sees the id next to a previous occupant's fields for long
+        c.ids[row] = flight.getId();
+    }
+
+    private void remove(Long id) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return;
+        }
+        setRow(id, -1);
+        columns.ids[row] = 0;
+        if (freeRowCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, freeRows.length * 2);
+        }
+        freeRows[freeRowCount++] = row;
+    }
+
+    private int rowOf(long id) {
+        if (id >= MAX_DENSE_ID) {
+            return rowsByLargeId.getOrDefault(id, -1);
+        }
+        return id < rowsById.length ? rowsById[(int) id] - 1 : -1;
+    }
+
+    private void setRow(long id, int row) {
+        if (id >= MAX_DENSE_ID) {
+            if (row < 0) {
+                rowsByLargeId.remove(id);
+            } else {
+                rowsByLargeId.put(id, row);
+            }
+            return;
+        }
+        if (id >= rowsById.length) {
+            rowsById = Arrays.copyOf(rowsById, (int) Math.min(MAX_DENSE_ID, Math.max(id + 1, rowsById.length * 3L / 2)));
+        }
+        rowsById[(int) id] = row + 1;
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        int row = rowCount;
+        if (row == columns.ids.length) {
+            columns = columns.grow();
+        }
+        rowCount = row + 1;
+        return row;
+    }
+
+    private Flight toFlight(Columns c, int row) {
+        Flight flight = new Flight();
+        flight.setId(c.ids[row]);
+        flight.setFlightNumber(flightNumbers.value(c.flightNumbers[row]));
+        flight.setAirline(airlines.value(c.airlines[row]));
+        flight.setSource(airports.value(c.sources[row]));
+        flight.setDestination(airports.value(c.destinations[row]));
+        flight.setStatus(statuses.value(c.statuses[row]));
+        flight.setDepartureDate(c.departureDates[row] == NO_DATE ? null : LocalDate.ofEpochDay(c.departureDates[row]));
+        flight.setDepartureDateTime(toDateTime(c.departures[row]));
+        flight.normalizeDepartureDateTime();
+        flight.setArrivalDateTime(toDateTime(c.arrivals[row]));
+        flight.setAvailableSeats(c.availableSeats[row]);
+        flight.setTotalSeats(c.totalSeats[row]);
+        flight.setPrice(c.prices[row]);
+        // Results are edited and PUT back, which needs the version they were read at
+        flight.setVersion(c.versions[row] == NO_VERSION ? null : c.versions[row]);
+        flight.setUpdatedAt(c.updatedAts[row] == NO_TIME ? null : fromEpochMicro(c.updatedAts[row]));
+        return flight;
+    }
+
+    private static boolean matches(boolean[] codeMatches, int code) {
+        return codeMatches == null || (code >= 0 && code < codeMatches.length && codeMatches[code]);
+    }
+
+    private static int compare(double keyA, long idA, double keyB, long idB) {
+        int byKey = Double.compare(keyA, keyB);
+        return byKey != 0 ? byKey : Long.compare(idA, idB);
+    }
+
+    private static double sortKey(Object value) {
+        if (value == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return epochSecond(dateTime);
+        }
+        return ((Number) value).doubleValue();
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // Departures are whole seconds, so "before to" is "at or before the last whole second before to"
+    private static long lastSecondBefore(LocalDateTime to) {
+        long second = epochSecond(to);
+        return to.getNano() == 0 ? second - 1 : second;
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static long epochMicro(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicro(long epochMicro) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicro, 1_000_000),
+                (int) Math.floorMod(epochMicro, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private record Candidate(double key, long id, int row) {
+    }
+
+    /**
+     * Interned values of one low-cardinality column. Codes are dense, start at 0 and are
+     * never reused; {@code null} is not encoded.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private volatile String[] values = new String[64];
+        private volatile int size;
+
+        private int encode(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code != null) {
+                return code;
+            }
+            int next = size;
+            String[] current = values;
+            if (next == current.length) {
+                current = Arrays.copyOf(current, next * 2);
+            }
+            current[next] = value;
+            values = current;
+            size = next + 1;
+            codes.put(value, next);
+            return next;
+        }
+
+        private int code(String value) {
+            return codes.getOrDefault(value, NO_CODE);
+        }
+
+        private String value(int code) {
+            return code == NO_CODE ? null : values[code];
+        }
+
+        private int size() {
+            return size;
+        }
+
+        /**
+         * Which codes contain {@code fragment}, or {@code null} for no restriction.
+         */
+        private boolean[] containing(String fragment) {
+            if (fragment == null) {
+                return null;
+            }
+            int count = size;
+            String[] snapshot = values;
+            boolean[] matches = new boolean[count];
+            for (int code = 0; code < count; code++) {
+                matches[code] = snapshot[code].contains(fragment);
+            }
+            return matches;
+        }
+    }
+
+    private static final class Columns {
+        private final long[] ids;
+        private final int[] flightNumbers;
+        private final int[] airlines;
+        private final int[] sources;
+        private final int[] destinations;
+        private final int[] statuses;
+        private final int[] departureDates;
+        private final long[] departures;
+        private final long[] arrivals;
+        private final int[] availableSeats;
+        private final int[] totalSeats;
+        private final double[] prices;
+        private final long[] versions;
+        private final long[] updatedAts;
+
+        private Columns(int capacity) {
+            this(new long[capacity], new int[capacity], new int[capacity], new int[capacity], new int[capacity],
+                    new int[capacity], new int[capacity], new long[capacity], new long[capacity],
+                    new int[capacity], new int[capacity], new double[capacity], new long[capacity],
+                    new long[capacity]);
+        }
+
+        private Columns(long[] ids, int[] flightNumbers, int[] airlines, int[] sources, int[] destinations,
+                        int[] statuses, int[] departureDates, long[] departures, long[] arrivals,
+                        int[] availableSeats, int[] totalSeats, double[] prices, long[] versions,
+                        long[] updatedAts) {
+            this.ids = ids;
+            this.flightNumbers = flightNumbers;
+            this.airlines = airlines;
+            this.sources = sources;
+            this.destinations = destinations;
+            this.statuses = statuses;
+            this.departureDates = departureDates;
+            this.departures = departures;
+            this.arrivals = arrivals;
+            this.availableSeats = availableSeats;
+            this.totalSeats = totalSeats;
+            this.prices = prices;
+            this.versions = versions;
+            this.updatedAts = updatedAts;
+        }
+
+        private Columns grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            return new Columns(Arrays.copyOf(ids, capacity), Arrays.copyOf(flightNumbers, capacity),
+                    Arrays.copyOf(airlines, capacity), Arrays.copyOf(sources, capacity),
+                    Arrays.copyOf(destinations, capacity), Arrays.copyOf(statuses, capacity),
+                    Arrays.copyOf(departureDates, capacity), Arrays.copyOf(departures, capacity),
+                    Arrays.copyOf(arrivals, capacity), Arrays.copyOf(availableSeats, capacity),
+                    Arrays.copyOf(totalSeats, capacity), Arrays.copyOf(prices, capacity),
+                    Arrays.copyOf(versions, capacity), Arrays.copyOf(updatedAts, capacity));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.thejas.flight_service.index;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Receives every change applied to {@link FlightSearchIndex}, including the rows
+ * streamed in by its startup load. Callbacks run synchronously under the index's
+ * write lock, in the order the changes were applied, and must stay cheap.
+ */
+public interface FlightChangeListener {
+
+    /**
+     * @param previous the flight before the change, or {@code null} if it was just added
+     * @param current  the flight after the change, or {@code null} if it was removed
+     */
+    void onFlightChanged(FlightSummary previous, FlightSummary current);
+}
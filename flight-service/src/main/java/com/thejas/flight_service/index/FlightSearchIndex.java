@@ -0,0 +1,304 @@
+package com.thejas.flight_service.index;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.repository.FlightRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index of flight summaries keyed by (source, destination, departureDate).
+ * Loaded once at startup and kept current by {@code FlightService} on every write,
+ * so route searches never hit the database once the index is ready. Every change is
+ * forwarded to the registered {@link FlightChangeListener}s, which build their own
+ * views (timeline, occupancy, ...) from the same stream of summaries.
+ *
+ * <p>Every few minutes the index catches up with rows other writers changed (by their
+ * {@code updated_at}) and is saved to a {@link FlightSnapshotFile}. A restart loads that
+ * snapshot and replays only the rows changed since, instead of reading the whole table.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlightSearchIndex {
+
+    // Transactions commit after their updated_at is taken; rows stamped this long before a sync are re-read
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(2);
+
+    private final FlightRepository flightRepository;
+    private final List<FlightChangeListener> listeners;
+    private final FlightSnapshotFile snapshotFile;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, FlightSummary> byId = new ConcurrentHashMap<>();
+    private final Map<RouteKey, NavigableMap<Long, FlightSummary>> byRoute = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+    // Database time up to which the index is known to match the table
+    private volatile LocalDateTime syncedAt;
+    // Ids written through this index while a load or sync runs; database rows read meanwhile may be older
+    private volatile Set<Long> writtenDuringSync;
+    // Serializes loads and syncs without holding the index lock, which writers need meanwhile
+    private final Object syncLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (syncLock) {
+            loadOnce();
+        }
+    }
+
+    private void loadOnce() {
+        long start = System.currentTimeMillis();
+        writtenDuringSync = ConcurrentHashMap.newKeySet();
+        try {
+            LocalDateTime now = databaseNow();
+            LocalDateTime snapshotAt = snapshotFile.read(this::loadEntry);
+            if (snapshotAt != null) {
+                int loaded = byId.size();
+                long replayed = replayChangedSince(snapshotAt);
+                long removed = removeDeletedRows();
+                log.info("Flight search index restored {} flights from snapshot, replayed {} changed and removed {} "
+                        + "deleted in {} ms", loaded, replayed, removed, System.currentTimeMillis() - start);
+            } else {
+                long lastId = 0L;
+                List<Flight> batch;
+                do {
+                    batch = flightRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+                    for (Flight flight : batch) {
+                        loadEntry(FlightSummary.from(flight));
+                        lastId = flight.getId();
+                    }
+                } while (!batch.isEmpty());
+                log.info("Flight search index loaded {} flights in {} ms", byId.size(),
+                        System.currentTimeMillis() - start);
+            }
+            syncedAt = now;
+        } finally {
+            writtenDuringSync = null;
+        }
+        ready = true;
+    }
+
+    /**
+     * Catches up with changes made by other writers, then saves the snapshot a restart starts from.
+     */
+    @Scheduled(fixedDelayString = "${flight.snapshot.interval-ms:300000}",
+               initialDelayString = "${flight.snapshot.interval-ms:300000}")
+    public void syncAndSnapshot() {
+        synchronized (syncLock) {
+            if (ready) {
+                syncOnce();
+            }
+        }
+    }
+
+    private void syncOnce() {
+        long start = System.currentTimeMillis();
+        writtenDuringSync = ConcurrentHashMap.newKeySet();
+        long replayed;
+        long removed;
+        try {
+            LocalDateTime now = databaseNow();
+            replayed = replayChangedSince(syncedAt);
+            removed = removeDeletedRows();
+            syncedAt = now;
+        } finally {
+            writtenDuringSync = null;
+        }
+        try {
+            snapshotFile.write(syncedAt, byId.values());
+        } catch (IOException e) {
+            log.warn("Writing the flight snapshot failed", e);
+            return;
+        }
+        log.debug("Flight index synced ({} changed, {} deleted) and snapshot written in {} ms",
+                replayed, removed, System.currentTimeMillis() - start);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<FlightSummary> search(String source, String destination, LocalDate date) {
+        NavigableMap<Long, FlightSummary> flights = byRoute.get(new RouteKey(source, destination, date));
+        return flights == null ? List.of() : new ArrayList<>(flights.values());
+    }
+
+    public FlightSummary get(Long id) {
+        return byId.get(id);
+    }
+
+    public Collection<FlightSummary> all() {
+        return byId.values();
+    }
+
+    public synchronized void upsert(Flight flight) {
+        trackWrite(flight.getId());
+        put(FlightSummary.from(flight));
+    }
+
+    public synchronized void adjustSeats(Long id, int delta) {
+        trackWrite(id);
+        FlightSummary current = byId.get(id);
+        if (current != null) {
+            put(current.withAvailableSeats(current.getAvailableSeats() + delta).withVersion(nextVersion(current)));
+        }
+    }
+
+    public synchronized void multiplyPrices(Collection<Long> ids, double factor) {
+        for (Long id : ids) {
+            trackWrite(id);
+            FlightSummary current = byId.get(id);
+            if (current != null) {
+                put(current.withPrice(current.getPrice() * factor).withVersion(nextVersion(current)));
+            }
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        trackWrite(id);
+        FlightSummary previous = byId.remove(id);
+        if (previous != null) {
+            unlink(previous);
+            notifyListeners(previous, null);
+        }
+    }
+
+    // Writes that land while a load or sync is running are newer than the rows it read.
+    private synchronized void loadEntry(FlightSummary summary) {
+        if (!writtenDuringSync.contains(summary.getId()) && !summary.equals(byId.get(summary.getId()))) {
+            put(summary);
+        }
+    }
+
+    private long replayChangedSince(LocalDateTime since) {
+        LocalDateTime from = since.minus(SYNC_OVERLAP);
+        long replayed = 0;
+        long lastId = 0L;
+        List<Flight> batch;
+        do {
+            batch = flightRepository.findTop1000ByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(from, lastId);
+            for (Flight flight : batch) {
+                loadEntry(FlightSummary.from(flight));
+                lastId = flight.getId();
+            }
+            replayed += batch.size();
+        } while (!batch.isEmpty());
+        return replayed;
+    }
+
+    // Deletes leave no updated_at behind; the row count tells whether any happened
+    private long removeDeletedRows() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flight", Long.class);
+        if (Objects.equals(rows, (long) byId.size())) {
+            return 0;
+        }
+        BitSet present = new BitSet();
+        Set<Long> presentLargeIds = new HashSet<>();
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList("SELECT id FROM flight WHERE id > ? ORDER BY id LIMIT 100000",
+                    Long.class, lastId);
+            for (Long id : ids) {
+                if (id < Integer.MAX_VALUE) {
+                    present.set(id.intValue());
+                } else {
+                    presentLargeIds.add(id);
+                }
+                lastId = id;
+            }
+        } while (!ids.isEmpty());
+
+        long removed = 0;
+        for (Long id : List.copyOf(byId.keySet())) {
+            boolean exists = id < Integer.MAX_VALUE ? present.get(id.intValue()) : presentLargeIds.contains(id);
+            if (!exists && removeLoaded(id)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private synchronized boolean removeLoaded(Long id) {
+        if (writtenDuringSync.contains(id)) {
+            return false;
+        }
+        FlightSummary previous = byId.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        unlink(previous);
+        notifyListeners(previous, null);
+        return true;
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    // The SQL behind seat and price deltas bumps the version too; updated_at catches up on the next sync
+    private static Long nextVersion(FlightSummary summary) {
+        return summary.getVersion() == null ? null : summary.getVersion() + 1;
+    }
+
+    private void trackWrite(Long id) {
+        Set<Long> written = writtenDuringSync;
+        if (written != null) {
+            written.add(id);
+        }
+    }
+
+    private void put(FlightSummary summary) {
+        FlightSummary previous = byId.put(summary.getId(), summary);
+        if (previous != null) {
+            unlink(previous);
+        }
+        byRoute.computeIfAbsent(RouteKey.of(summary), k -> new ConcurrentSkipListMap<>())
+                .put(summary.getId(), summary);
+        notifyListeners(previous, summary);
+    }
+
+    private void notifyListeners(FlightSummary previous, FlightSummary current) {
+        for (FlightChangeListener listener : listeners) {
+            listener.onFlightChanged(previous, current);
+        }
+    }
+
+    private void unlink(FlightSummary summary) {
+        byRoute.computeIfPresent(RouteKey.of(summary), (key, flights) -> {
+            flights.remove(summary.getId());
+            return flights.isEmpty() ? null : flights;
+        });
+    }
+
+    private record RouteKey(String source, String destination, LocalDate date) {
+        static RouteKey of(FlightSummary summary) {
+            return new RouteKey(summary.getSource(), summary.getDestination(), summary.getDepartureDate());
+        }
+    }
+}
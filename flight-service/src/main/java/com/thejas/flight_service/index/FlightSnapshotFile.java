@@ -0,0 +1,297 @@
+package com.thejas.flight_service.index;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Binary snapshot of the flight search index, written and read through memory-mapped
+ * windows. Layout: a fixed header (magic, format version, sync time, row count,
+ * dictionary offset, CRC-32C of the body), one fixed 80-byte record per flight with
+ * strings as dictionary codes, then the dictionary. A new snapshot is written beside the
+ * old one and moved over it, so a crash mid-write leaves the previous snapshot intact.
+ */
+@Slf4j
+@Component
+public class FlightSnapshotFile {
+
+    private static final int MAGIC = 0x464C5358;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 40;
+    private static final int RECORD_BYTES = 80;
+    // A multiple of RECORD_BYTES, so records never straddle two windows
+    private static final int WINDOW_BYTES = RECORD_BYTES * 800 * 1024;
+    private static final int NO_CODE = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private final Path path;
+
+    public FlightSnapshotFile(@Value("${flight.snapshot.path:data/flight-index.snapshot}") String path) {
+        this.path = Path.of(path);
+    }
+
+    /**
+     * Snapshot of {@code flights}, consistent with the database as of {@code syncedAt}.
+     */
+    public void write(LocalDateTime syncedAt, Iterable<FlightSummary> flights) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedOutput out = new MappedOutput(channel, HEADER_BYTES);
+            Map<String, Integer> codes = new HashMap<>();
+            List<String> dictionary = new ArrayList<>();
+            long count = 0;
+            for (FlightSummary flight : flights) {
+                out.ensure(RECORD_BYTES);
+                MappedByteBuffer buffer = out.buffer;
+                buffer.putLong(flight.getId());
+                buffer.putInt(encode(flight.getFlightNumber(), codes, dictionary));
+                buffer.putInt(encode(flight.getAirline(), codes, dictionary));
+                buffer.putInt(encode(flight.getSource(), codes, dictionary));
+                buffer.putInt(encode(flight.getDestination(), codes, dictionary));
+                buffer.putInt(encode(flight.getStatus(), codes, dictionary));
+                buffer.putInt(flight.getDepartureDate() == null ? NO_DATE : (int) flight.getDepartureDate().toEpochDay());
+                buffer.putLong(epochSecond(flight.getDepartureTime()));
+                buffer.putLong(epochSecond(flight.getArrivalDateTime()));
+                buffer.putInt(flight.getAvailableSeats());
+                buffer.putInt(flight.getTotalSeats());
+                buffer.putDouble(flight.getPrice());
+                buffer.putLong(flight.getVersion() == null ? NO_VERSION : flight.getVersion());
+                buffer.putLong(epochMicro(flight.getUpdatedAt()));
+                count++;
+            }
+            long dictionaryOffset = out.position();
+            out.ensure(4);
+            out.buffer.putInt(dictionary.size());
+            for (String value : dictionary) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.ensure(4 + bytes.length);
+                out.buffer.putInt(bytes.length).put(bytes);
+            }
+            long size = out.finish();
+            channel.truncate(size);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(epochSecond(syncedAt)).putLong(count)
+                    .putLong(dictionaryOffset).putInt((int) out.crc.getValue()).flip();
+            channel.write(header, 0);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Feeds every flight in the snapshot to {@code sink}, after checking the whole file.
+     *
+     * @return the time the snapshot was in sync with the database, or {@code null} if
+     *         there is no usable snapshot (nothing is passed to {@code sink} then)
+     */
+    public LocalDateTime read(Consumer<FlightSummary> sink) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                log.warn("Ignoring truncated flight snapshot {}", path);
+                return null;
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            int magic = header.getInt();
+            int version = header.getInt();
+            if (magic != MAGIC || version != VERSION) {
+                log.warn("Ignoring flight snapshot {}: unknown format {}", path, version);
+                return null;
+            }
+            LocalDateTime syncedAt = toDateTime(header.getLong());
+            long count = header.getLong();
+            long dictionaryOffset = header.getLong();
+            int checksum = header.getInt();
+            if (dictionaryOffset != HEADER_BYTES + count * RECORD_BYTES || dictionaryOffset + 4 > size
+                    || checksum != checksum(channel, size)) {
+                log.warn("Ignoring corrupt flight snapshot {}", path);
+                return null;
+            }
+
+            MappedInput in = new MappedInput(channel, dictionaryOffset, size);
+            in.ensure(4);
+            String[] dictionary = new String[in.buffer.getInt()];
+            for (int code = 0; code < dictionary.length; code++) {
+                in.ensure(4);
+                byte[] bytes = new byte[in.buffer.getInt()];
+                in.ensure(bytes.length);
+                in.buffer.get(bytes);
+                dictionary[code] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            in = new MappedInput(channel, HEADER_BYTES, dictionaryOffset);
+            for (long i = 0; i < count; i++) {
+                in.ensure(RECORD_BYTES);
+                MappedByteBuffer buffer = in.buffer;
+                long id = buffer.getLong();
+                String flightNumber = decode(buffer.getInt(), dictionary);
+                String airline = decode(buffer.getInt(), dictionary);
+                String source = decode(buffer.getInt(), dictionary);
+                String destination = decode(buffer.getInt(), dictionary);
+                String status = decode(buffer.getInt(), dictionary);
+                int departureDate = buffer.getInt();
+                LocalDateTime departure = toDateTime(buffer.getLong());
+                LocalDateTime arrival = toDateTime(buffer.getLong());
+                int availableSeats = buffer.getInt();
+                int totalSeats = buffer.getInt();
+                double price = buffer.getDouble();
+                long rowVersion = buffer.getLong();
+                LocalDateTime updatedAt = fromEpochMicro(buffer.getLong());
+                sink.accept(new FlightSummary(id, flightNumber, airline, source, destination,
+                        departureDate == NO_DATE ? null : LocalDate.ofEpochDay(departureDate),
+                        departure, arrival, availableSeats, totalSeats, price, status,
+                        rowVersion == NO_VERSION ? null : rowVersion, updatedAt));
+            }
+            return syncedAt;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable flight snapshot {}", path, e);
+            return null;
+        }
+    }
+
+    private static int checksum(FileChannel channel, long size) throws IOException {
+        CRC32C crc = new CRC32C();
+        for (long position = HEADER_BYTES; position < size; position += WINDOW_BYTES) {
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, size - position)));
+        }
+        return (int) crc.getValue();
+    }
+
+    private static int encode(String value, Map<String, Integer> codes, List<String> dictionary) {
+        if (value == null) {
+            return NO_CODE;
+        }
+        return codes.computeIfAbsent(value, v -> {
+            dictionary.add(v);
+            return dictionary.size() - 1;
+        });
+    }
+
+    private static String decode(int code, String[] dictionary) {
+        return code == NO_CODE ? null : dictionary[code];
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? NO_TIME : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    // updated_at keeps the database's microseconds, so the restored summary equals a reloaded row
+    private static long epochMicro(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicro(long epochMicro) {
+        if (epochMicro == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicro, 1_000_000),
+                (int) Math.floorMod(epochMicro, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    // Sequential writes through a window that is remapped further along the file as it fills
+    private static final class MappedOutput {
+        private final FileChannel channel;
+        private final CRC32C crc = new CRC32C();
+        private long windowStart;
+        private MappedByteBuffer buffer;
+
+        private MappedOutput(FileChannel channel, long start) throws IOException {
+            this.channel = channel;
+            this.windowStart = start;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, start, WINDOW_BYTES);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                long position = position();
+                checksumWindow();
+                windowStart = position;
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(WINDOW_BYTES, bytes));
+            }
+        }
+
+        private long position() {
+            return windowStart + buffer.position();
+        }
+
+        private long finish() {
+            checksumWindow();
+            return position();
+        }
+
+        private void checksumWindow() {
+            ByteBuffer written = buffer.duplicate();
+            written.flip();
+            crc.update(written);
+        }
+    }
+
+    private static final class MappedInput {
+        private final FileChannel channel;
+        private final long end;
+        private long windowStart;
+        private MappedByteBuffer buffer;
+
+        private MappedInput(FileChannel channel, long start, long end) throws IOException {
+            this.channel = channel;
+            this.end = end;
+            this.windowStart = start;
+            this.buffer = map(start);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                long position = windowStart + buffer.position();
+                if (position + bytes > end) {
+                    throw new IOException("Snapshot ends unexpectedly");
+                }
+                windowStart = position;
+                buffer = map(position);
+            }
+        }
+
+        private MappedByteBuffer map(long position) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_BYTES, end - position));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Change versions behind the ETags of flight reads. Every change stamps the flight and
+ * the route/date it is on (and the one it left) with the next value of one sequence, so
+ * a conditional GET is answered from memory. Tags also carry a per-process epoch, since
+ * the sequence restarts with the process, and the current day, since live fares move
+ * with days to departure.
+ */
+@Component
+public class FlightVersions implements FlightChangeListener {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> flights = new ConcurrentHashMap<>();
+    private final Map<RouteKey, Long> routes = new ConcurrentHashMap<>();
+    // Version of routes without an entry; raised on every prune so a pruned route never goes back to an older tag
+    private volatile long untrackedRouteVersion = 0;
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        long version = sequence.incrementAndGet();
+        if (previous != null) {
+            routes.put(RouteKey.of(previous), version);
+        }
+        if (current != null) {
+            routes.put(RouteKey.of(current), version);
+            flights.put(current.getId(), version);
+        } else if (previous != null) {
+            flights.remove(previous.getId());
+        }
+    }
+
+    /**
+     * Strong ETag of a single flight, or {@code null} if the flight is unknown.
+     */
+    public String flightTag(Long id) {
+        Long version = flights.get(id);
+        return version == null ? null : tag("f", version);
+    }
+
+    /**
+     * Strong ETag of the search result for one route and date.
+     */
+    public String routeTag(String source, String destination, LocalDate date) {
+        return tag("r", routes.getOrDefault(new RouteKey(source, destination, date), untrackedRouteVersion));
+    }
+
+    // Past dates are no longer searched for
+    @Scheduled(fixedDelay = 3_600_000)
+    public void prunePastRoutes() {
+        LocalDate today = LocalDate.now();
+        untrackedRouteVersion = sequence.incrementAndGet();
+        routes.keySet().removeIf(key -> key.date() == null || key.date().isBefore(today));
+    }
+
+    private String tag(String kind, long version) {
+        return "\"" + kind + "-" + epoch + "-" + LocalDate.now().toEpochDay() + "-" + version + "\"";
+    }
+
+    private record RouteKey(String source, String destination, LocalDate date) {
+        static RouteKey of(FlightSummary summary) {
+            return new RouteKey(summary.getSource(), summary.getDestination(), summary.getDepartureDate());
+        }
+    }
+}
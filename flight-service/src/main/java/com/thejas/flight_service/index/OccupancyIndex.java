@@ -0,0 +1,87 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Future, non-cancelled flights ranked by occupancy. Seat changes and cancellations
+ * move a single entry, so "below X%" and "bottom K" walk only the low end of the map.
+ */
+@Component
+public class OccupancyIndex implements FlightChangeListener {
+
+    private static final Comparator<OccupancyKey> ORDER =
+            Comparator.comparingDouble(OccupancyKey::occupancy).thenComparing(OccupancyKey::id);
+
+    private final ConcurrentSkipListMap<OccupancyKey, FlightSummary> ranking = new ConcurrentSkipListMap<>(ORDER);
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (previous != null) {
+            ranking.remove(OccupancyKey.of(previous));
+        }
+        if (isTracked(current)) {
+            ranking.put(OccupancyKey.of(current), current);
+        }
+    }
+
+    /**
+     * Flights still to depart whose occupancy is strictly below {@code thresholdPercentage},
+     * least occupied first.
+     */
+    public List<FlightSummary> below(double thresholdPercentage) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightSummary> result = new ArrayList<>();
+        for (FlightSummary flight : ranking.headMap(new OccupancyKey(thresholdPercentage, Long.MIN_VALUE)).values()) {
+            if (flight.getDepartureTime().isAfter(now)) {
+                result.add(flight);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The {@code k} least occupied flights still to depart.
+     */
+    public List<FlightSummary> bottom(int k) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightSummary> result = new ArrayList<>(Math.max(k, 0));
+        for (FlightSummary flight : ranking.values()) {
+            if (result.size() >= k) {
+                break;
+            }
+            if (flight.getDepartureTime().isAfter(now)) {
+                result.add(flight);
+            }
+        }
+        return result;
+    }
+
+    // Departed flights are skipped by the queries until they are removed here
+    @Scheduled(fixedDelay = 3_600_000)
+    public void pruneDeparted() {
+        LocalDateTime now = LocalDateTime.now();
+        ranking.values().removeIf(flight -> !flight.getDepartureTime().isAfter(now));
+    }
+
+    private static boolean isTracked(FlightSummary flight) {
+        return flight != null
+                && flight.getDepartureTime() != null
+                && flight.getDepartureTime().isAfter(LocalDateTime.now())
+                && !"CANCELLED".equals(flight.getStatus());
+    }
+
+    private record OccupancyKey(double occupancy, Long id) {
+        static OccupancyKey of(FlightSummary flight) {
+            return new OccupancyKey(flight.getOccupancyPercentage(), flight.getId());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Airport graph for itinerary search: for each origin, its outgoing flights ordered by
+ * departure time. Only non-cancelled flights with both departure and arrival times are
+ * edges, since connections cannot be checked without an arrival time.
+ */
+@Component
+public class RouteGraph implements FlightChangeListener {
+
+    private static final Comparator<DepartureKey> ORDER =
+            Comparator.comparing(DepartureKey::departure).thenComparing(DepartureKey::id);
+
+    private final Map<String, ConcurrentSkipListMap<DepartureKey, FlightSummary>> departuresByAirport =
+            new ConcurrentHashMap<>();
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (isEdge(previous)) {
+            departuresByAirport.computeIfPresent(previous.getSource(), (airport, departures) -> {
+                departures.remove(DepartureKey.of(previous));
+                return departures.isEmpty() ? null : departures;
+            });
+        }
+        if (isEdge(current)) {
+            departuresByAirport.computeIfAbsent(current.getSource(), airport -> new ConcurrentSkipListMap<>(ORDER))
+                    .put(DepartureKey.of(current), current);
+        }
+    }
+
+    /**
+     * Flights leaving {@code airport} at or after {@code from} and strictly before {@code to}.
+     */
+    public Collection<FlightSummary> departures(String airport, LocalDateTime from, LocalDateTime to) {
+        ConcurrentSkipListMap<DepartureKey, FlightSummary> departures = departuresByAirport.get(airport);
+        if (departures == null || !from.isBefore(to)) {
+            return List.of();
+        }
+        NavigableMap<DepartureKey, FlightSummary> window = departures.subMap(
+                new DepartureKey(from, Long.MIN_VALUE), true,
+                new DepartureKey(to, Long.MIN_VALUE), false);
+        return window.values();
+    }
+
+    private static boolean isEdge(FlightSummary flight) {
+        return flight != null
+                && flight.getDepartureTime() != null
+                && flight.getArrivalDateTime() != null
+                && flight.getArrivalDateTime().isAfter(flight.getDepartureTime())
+                && !"CANCELLED".equals(flight.getStatus());
+    }
+
+    private record DepartureKey(LocalDateTime departure, Long id) {
+        static DepartureKey of(FlightSummary flight) {
+            return new DepartureKey(flight.getDepartureTime(), flight.getId());
+        }
+    }
+}
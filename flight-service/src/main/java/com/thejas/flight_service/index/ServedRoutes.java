@@ -0,0 +1,166 @@
+package com.thejas.flight_service.index;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.repository.RouteDateRow;
+import com.thejas.flight_service.util.BloomFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Which routes are served at all, so searches for pairs and dates without flights are
+ * answered empty without a database query or a graph walk. Route pairs and airports are
+ * few and kept exactly; route-dates are many and kept in a Bloom filter, whose rare
+ * false positives just fall through to the normal search.
+ *
+ * <p>Built from one distinct-route query at startup, ahead of the slower full index load,
+ * and rebuilt when the filter fills up. Flights only ever add routes here; a route whose
+ * last flight is gone stays "served" until the next rebuild, which is harmless. Until the
+ * first build completes every route is reported as possibly served.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServedRoutes implements FlightChangeListener {
+
+    private static final long MIN_ROUTE_DATE_CAPACITY = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final FlightRepository flightRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Routes active;
+    // Receives changes while a rebuild is reading the table, so none are lost in the swap
+    private volatile Routes building;
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (current == null) {
+            return;
+        }
+        Routes routes = active;
+        if (routes != null) {
+            routes.add(current.getSource(), current.getDestination(), current.getDepartureDate());
+        }
+        Routes next = building;
+        if (next != null) {
+            next.add(current.getSource(), current.getDestination(), current.getDepartureDate());
+        }
+    }
+
+    /**
+     * False only if no flight serves {@code source} to {@code destination} on {@code date}.
+     */
+    public boolean mayServe(String source, String destination, LocalDate date) {
+        Routes routes = active;
+        return routes == null || routes.mayServe(source, destination, date);
+    }
+
+    /**
+     * False only if no flight has ever served {@code source} to {@code destination}.
+     */
+    public boolean servesRoute(String source, String destination) {
+        Routes routes = active;
+        return routes == null || routes.pairs.contains(new RoutePair(source, destination));
+    }
+
+    /**
+     * False only if no flight leaves {@code source} or none arrives at {@code destination}.
+     */
+    public boolean servesAirports(String source, String destination) {
+        Routes routes = active;
+        return routes == null || (routes.origins.contains(source) && routes.destinations.contains(destination));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 3_600_000)
+    public void rebuildIfSaturated() {
+        Routes routes = active;
+        if (routes != null && routes.routeDates.isSaturated()) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Routes next = new Routes(Math.max(MIN_ROUTE_DATE_CAPACITY, 2 * flightRepository.count()));
+        building = next;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<RouteDateRow> rows = flightRepository.streamRouteDates()) {
+                    rows.forEach(row -> next.add(row.getSource(), row.getDestination(), row.getDepartureDate()));
+                }
+            });
+            active = next;
+        } finally {
+            building = null;
+        }
+        log.info("Served routes built: {} route pairs in {} ms", next.pairs.size(), System.currentTimeMillis() - start);
+    }
+
+    private static final class Routes {
+        private final Set<RoutePair> pairs = ConcurrentHashMap.newKeySet();
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+        private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+        private final BloomFilter routeDates;
+
+        private Routes(long routeDateCapacity) {
+            this.routeDates = new BloomFilter(routeDateCapacity, FALSE_POSITIVE_RATE);
+        }
+
+        private void add(String source, String destination, LocalDate date) {
+            pairs.add(new RoutePair(source, destination));
+            if (source != null && destination != null) {
+                origins.add(source);
+                destinations.add(destination);
+            }
+            routeDates.add(routeDateKey(source, destination, date));
+        }
+
+        private boolean mayServe(String source, String destination, LocalDate date) {
+            return pairs.contains(new RoutePair(source, destination))
+                    && routeDates.mightContain(routeDateKey(source, destination, date));
+        }
+    }
+
+    // FNV-1a over both airports, then the date
+    private static long routeDateKey(String source, String destination, LocalDate date) {
+        long hash = 0xCBF29CE484222325L;
+        hash = fnv(hash, source);
+        hash = (hash ^ '|') * 0x100000001B3L;
+        hash = fnv(hash, destination);
+        return (hash ^ (date == null ? Long.MIN_VALUE : date.toEpochDay())) * 0x100000001B3L;
+    }
+
+    private static long fnv(long hash, String value) {
+        if (value == null) {
+            return hash * 0x100000001B3L;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private record RoutePair(String source, String destination) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.thejas.flight_service.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+/**
+ * Case-insensitive prefix tries over the distinct source, destination, airline and
+ * flight number values. Values are reference counted by the flights using them and
+ * disappear from suggestions when the last such flight is removed or changed.
+ */
+@Component
+public class SuggestionIndex implements FlightChangeListener {
+
+    public enum Field {
+        SOURCE(FlightSummary::getSource),
+        DESTINATION(FlightSummary::getDestination),
+        AIRLINE(FlightSummary::getAirline),
+        FLIGHT_NUMBER(FlightSummary::getFlightNumber);
+
+        private final Function<FlightSummary, String> extractor;
+
+        Field(Function<FlightSummary, String> extractor) {
+            this.extractor = extractor;
+        }
+    }
+
+    private final Map<Field, Trie> tries = new EnumMap<>(Field.class);
+
+    public SuggestionIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new Trie());
+        }
+    }
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        for (Field field : Field.values()) {
+            String before = previous == null ? null : field.extractor.apply(previous);
+            String after = current == null ? null : field.extractor.apply(current);
+            if (before != null && before.equals(after)) {
+                continue;
+            }
+            Trie trie = tries.get(field);
+            if (before != null) {
+                trie.remove(before);
+            }
+            if (after != null) {
+                trie.add(after);
+            }
+        }
+    }
+
+    /**
+     * Up to {@code limit} distinct values of {@code field} starting with {@code prefix},
+     * in alphabetical order.
+     */
+    public List<String> suggest(Field field, String prefix, int limit) {
+        return tries.get(field).complete(prefix, limit);
+    }
+
+    // Single writer (the search index lock); readers traverse concurrently
+    private static final class Trie {
+        private final Node root = new Node(null);
+
+        private void add(String value) {
+            Node node = root;
+            for (char c : normalize(value).toCharArray()) {
+                node = node.children.computeIfAbsent(c, Node::new);
+            }
+            node.values.merge(value, 1, Integer::sum);
+        }
+
+        private void remove(String value) {
+            String key = normalize(value);
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            for (char c : key.toCharArray()) {
+                path.push(node);
+                node = node.children.get(c);
+                if (node == null) {
+                    return;
+                }
+            }
+            node.values.computeIfPresent(value, (v, count) -> count > 1 ? count - 1 : null);
+            // Prune branches that no longer lead to any value
+            while (!path.isEmpty() && node.values.isEmpty() && node.children.isEmpty()) {
+                Node parent = path.pop();
+                parent.children.remove(node.letter);
+                node = parent;
+            }
+        }
+
+        private List<String> complete(String prefix, int limit) {
+            List<String> result = new ArrayList<>();
+            if (limit <= 0) {
+                return result;
+            }
+            Node node = root;
+            for (char c : normalize(prefix).toCharArray()) {
+                node = node.children.get(c);
+                if (node == null) {
+                    return result;
+                }
+            }
+            collect(node, limit, result);
+            return result;
+        }
+
+        private void collect(Node node, int limit, List<String> result) {
+            for (String value : node.values.keySet()) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                result.add(value);
+            }
+            for (Node child : node.children.values()) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                collect(child, limit, result);
+            }
+        }
+
+        private static String normalize(String value) {
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Node {
+        private final Character letter;
+        private final Map<Character, Node> children = new ConcurrentSkipListMap<>();
+        // Original spellings that normalize to this node, with the number of flights using each
+        private final Map<String, Integer> values = new ConcurrentSkipListMap<>();
+
+        private Node(Character letter) {
+            this.letter = letter;
+        }
+    }
+}
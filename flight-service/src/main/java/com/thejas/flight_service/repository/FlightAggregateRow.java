@@ -0,0 +1,12 @@
+package com.thejas.flight_service.repository;
+
+/**
+ * One (airline, status) group of the dashboard aggregate query.
+ */
+public interface FlightAggregateRow {
+    String getAirline();
+    String getStatus();
+    long getFlightCount();
+    long getAvailableSeats();
+    double getBookingRateSum();
+}
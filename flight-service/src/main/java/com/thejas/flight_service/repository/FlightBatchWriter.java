@@ -0,0 +1,105 @@
+package com.thejas.flight_service.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.thejas.flight_service.entity.Flight;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inserts many flights as one JDBC batch, bypassing the persistence context. With
+ * IDENTITY ids Hibernate would issue one INSERT per entity; this sends the whole list
+ * in one round trip and reads the generated ids, and the version and update time the
+ * columns default to, back into the given flights.
+ * Joins the caller's transaction. Hibernate does not see these inserts, so cached query
+ * results are dropped once they commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FlightBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO flight (flight_number, airline, source, destination, "
+            + "departure_date, departure_time, departure_date_time, arrival_date_time, available_seats, "
+            + "total_seats, price, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Read back so the indexes see the row as stored, not with a null version
+    private static final String[] GENERATED_COLUMNS = {"id", "version", "updated_at"};
+
+    private static final DateTimeFormatter DEPARTURE_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void insert(List<Flight> flights) {
+        if (flights.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, GENERATED_COLUMNS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Flight flight = flights.get(i);
+                        ps.setString(1, flight.getFlightNumber());
+                        ps.setString(2, flight.getAirline());
+                        ps.setString(3, flight.getSource());
+                        ps.setString(4, flight.getDestination());
+                        ps.setObject(5, flight.getDepartureDate(), Types.DATE);
+                        ps.setString(6, flight.getDepartureDateTime() == null ? null
+                                : flight.getDepartureDateTime().toLocalTime().format(DEPARTURE_TIME_FORMAT));
+                        ps.setTimestamp(7, flight.getDepartureDateTime() == null ? null
+                                : Timestamp.valueOf(flight.getDepartureDateTime()));
+                        ps.setTimestamp(8, flight.getArrivalDateTime() == null ? null
+                                : Timestamp.valueOf(flight.getArrivalDateTime()));
+                        ps.setInt(9, flight.getAvailableSeats());
+                        ps.setInt(10, flight.getTotalSeats());
+                        ps.setDouble(11, flight.getPrice());
+                        ps.setString(12, flight.getStatus());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return flights.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < flights.size(); i++) {
+            Map<String, Object> row = generated.get(i);
+            Flight flight = flights.get(i);
+            flight.setId(((Number) row.get("id")).longValue());
+            flight.setVersion(((Number) row.get("version")).longValue());
+            flight.setUpdatedAt(((Timestamp) row.get("updated_at")).toLocalDateTime());
+        }
+        evictQueryResults();
+    }
+
+    private void evictQueryResults() {
+        org.hibernate.Cache cache = entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictQueryRegions();
+                }
+            });
+        } else {
+            cache.evictQueryRegions();
+        }
+    }
+}
@@ -1,17 +1,129 @@
 package com.thejas.flight_service.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.thejas.flight_service.entity.Flight;
 
-public interface FlightRepository extends JpaRepository<Flight, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface FlightRepository extends JpaRepository<Flight, Long>, JpaSpecificationExecutor<Flight> {
 
+    /**
+     * Query-cached: the cache holds only the matching ids, and the flights themselves
+     * come from the entity cache, so seat-count changes never invalidate it.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Flight> findBySourceAndDestinationAndDepartureDate(
         String source,
         String destination,
         LocalDate departureDate
     );
+
+    List<Flight> findBySourceAndDestinationAndDepartureDateBetween(
+        String source,
+        String destination,
+        LocalDate from,
+        LocalDate to
+    );
+
+    List<Flight> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<Flight> findTop1000ByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(LocalDateTime since, Long id);
+
+    /**
+     * Distinct route-dates, answered from idx_flight_route_date; must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT DISTINCT f.source AS source, f.destination AS destination, f.departureDate AS departureDate " +
+           "FROM Flight f")
+    Stream<RouteDateRow> streamRouteDates();
+
+    /**
+     * Forward-only cursor over the whole table; must be consumed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM Flight f ORDER BY f.id")
+    Stream<Flight> streamAll();
+
+    /**
+     * Ids after {@code afterId} of legacy rows that only carry the departure_date /
+     * "HH:mm" departure_time pair, with a time that can be cast, in id order.
+     */
+    @Query(value = "SELECT id FROM flight WHERE id > :afterId AND departure_date_time IS NULL " +
+                   "AND departure_date IS NOT NULL " +
+                   "AND departure_time ~ '^([01]?[0-9]|2[0-3]):[0-5][0-9](:[0-5][0-9])?$' " +
+                   "ORDER BY id LIMIT :batchSize",
+           nativeQuery = true)
+    List<Long> findDepartureDateTimeBackfillIds(@Param("afterId") long afterId, @Param("batchSize") int batchSize);
+
+    /**
+     * Fills departure_date_time from the legacy pair for the given rows. Returns the
+     * number of rows updated.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE flight SET departure_date_time = departure_date + CAST(departure_time AS time), " +
+                   "version = version + 1, updated_at = LOCALTIMESTAMP " +
+                   "WHERE id IN (:ids) AND departure_date_time IS NULL",
+           nativeQuery = true)
+    int backfillDepartureDateTime(@Param("ids") List<Long> ids);
+
+    @Query("SELECT f FROM Flight f WHERE f.departureDateTime > :from AND f.departureDateTime < :to " +
+           "AND (f.status IS NULL OR f.status <> 'CANCELLED') ORDER BY f.departureDateTime")
+    List<Flight> findActiveDepartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT f FROM Flight f WHERE f.departureDateTime > :from " +
+           "AND (f.status IS NULL OR f.status <> 'CANCELLED') " +
+           "AND CASE WHEN f.totalSeats > 0 " +
+           "THEN (f.totalSeats - f.availableSeats) * 100.0 / f.totalSeats ELSE 0 END < :thresholdPercentage")
+    List<Flight> findActiveDepartingAfterWithOccupancyBelow(@Param("from") LocalDateTime from,
+                                                            @Param("thresholdPercentage") double thresholdPercentage);
+
+    @Query("SELECT f FROM Flight f WHERE f.departureDateTime > :from " +
+           "AND (f.status IS NULL OR f.status <> 'CANCELLED') " +
+           "ORDER BY CASE WHEN f.totalSeats > 0 " +
+           "THEN (f.totalSeats - f.availableSeats) * 100.0 / f.totalSeats ELSE 0 END, f.id")
+    List<Flight> findActiveDepartingAfterByOccupancy(@Param("from") LocalDateTime from, Pageable pageable);
+
+    @Query("SELECT COUNT(f) FROM Flight f WHERE f.airline = :airline " +
+           "AND (f.status IS NULL OR f.status <> 'CANCELLED')")
+    long countActiveByAirline(@Param("airline") String airline);
+
+    @Query("SELECT f.id FROM Flight f WHERE f.airline = :airline AND f.id > :afterId " +
+           "AND (f.status IS NULL OR f.status <> 'CANCELLED') ORDER BY f.id")
+    List<Long> findActiveIdsByAirline(@Param("airline") String airline, @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Flight f SET f.price = f.price * :factor, f.version = f.version + 1, f.updatedAt = LOCAL DATETIME WHERE f.id IN :ids")
+    int multiplyPrices(@Param("ids") List<Long> ids, @Param("factor") double factor);
+
+    /**
+     * Dashboard totals in one pass: a handful of rows, one per (airline, status).
+     * A flight with no total seat count contributes a booking rate of 0.
+     */
+    @Query("SELECT f.airline AS airline, f.status AS status, COUNT(f) AS flightCount, " +
+           "COALESCE(SUM(f.availableSeats), 0) AS availableSeats, " +
+           "COALESCE(SUM(CASE WHEN f.totalSeats > 0 " +
+           "THEN (f.totalSeats - f.availableSeats) * 100.0 / f.totalSeats ELSE 0 END), 0) AS bookingRateSum " +
+           "FROM Flight f GROUP BY f.airline, f.status")
+    List<FlightAggregateRow> aggregateByAirlineAndStatus();
 }
@@ -0,0 +1,34 @@
+package com.thejas.flight_service.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thejas.flight_service.entity.FlightSchedule;
+
+public interface FlightScheduleRepository extends JpaRepository<FlightSchedule, Long> {
+
+    List<FlightSchedule> findByStatusAndValidToGreaterThanEqual(String status, LocalDate date);
+
+    /**
+     * Advances the expansion cursor of an active schedule, only if it still stands at
+     * {@code previous}. Returns 0 when another run (or instance) moved it first or the
+     * schedule was deactivated, so the caller's batch must not be kept.
+     */
+    @Modifying
+    @Query("UPDATE FlightSchedule s SET s.expandedThrough = :date WHERE s.id = :id " +
+           "AND s.status = 'ACTIVE' AND s.expandedThrough IS NOT DISTINCT FROM :previous")
+    int advanceExpandedThrough(@Param("id") Long id, @Param("previous") LocalDate previous,
+                               @Param("date") LocalDate date);
+
+    // Touches only the status, so a concurrent roll-forward's cursor is not overwritten
+    @Modifying
+    @Transactional
+    @Query("UPDATE FlightSchedule s SET s.status = :status WHERE s.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") String status);
+}
@@ -0,0 +1,111 @@
+package com.thejas.flight_service.repository;
+
+import java.util.function.Function;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.thejas.flight_service.entity.Flight;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Seat-count updates that keep the second-level cache warm. A JPQL bulk UPDATE makes
+ * Hibernate drop every cached flight, which on the booking path would empty the cache
+ * continuously; this issues the same conditional UPDATE over JDBC and invalidates only
+ * the flight it touched.
+ *
+ * <p>Invalidation follows Hibernate's own {@code READ_WRITE} protocol: the cache entry is
+ * soft-locked before the UPDATE and unlocked when the transaction completes. While locked
+ * no one can cache the row, and the released lock still refuses rows loaded by sessions
+ * that started before it, so a reader that loaded the old seat count cannot cache it,
+ * however late it gets around to it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FlightSeatWriter {
+
+    private static final String DECREMENT_SQL = "UPDATE flight SET available_seats = available_seats - ?, "
+            + "version = version + 1, updated_at = LOCALTIMESTAMP WHERE id = ? AND available_seats >= ?";
+    private static final String INCREMENT_SQL = "UPDATE flight SET available_seats = available_seats + ?, "
+            + "version = version + 1, updated_at = LOCALTIMESTAMP WHERE id = ? AND available_seats + ? <= total_seats";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Conditional in-place decrement; returns 0 when the flight is missing or
+     * does not have enough seats left.
+     */
+    public int decrementSeats(Long id, int numSeats) {
+        return update(id, DECREMENT_SQL, numSeats);
+    }
+
+    /**
+     * Conditional in-place increment for seats given back; returns 0 when the flight is
+     * missing or the seats would exceed its total.
+     */
+    public int incrementSeats(Long id, int numSeats) {
+        return update(id, INCREMENT_SQL, numSeats);
+    }
+
+    private int update(Long id, String sql, int numSeats) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Flight.class);
+        EntityDataAccess cache = persister.getCacheAccessStrategy();
+        if (cache == null) {
+            return jdbcTemplate.update(sql, numSeats, id, numSeats);
+        }
+
+        Object key = cache.generateCacheKey(id, persister, sessionFactory, null);
+        SoftLock lock = withSession(sessionFactory, session -> cache.lockItem(session, key, null));
+        int updated;
+        try {
+            updated = jdbcTemplate.update(sql, numSeats, id, numSeats);
+        } catch (RuntimeException e) {
+            unlock(sessionFactory, cache, key, lock);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Committed or rolled back, the entry must not stay locked until the lock times out
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlock(sessionFactory, cache, key, lock);
+                }
+            });
+        } else {
+            unlock(sessionFactory, cache, key, lock);
+        }
+        return updated;
+    }
+
+    private void unlock(SessionFactoryImplementor sessionFactory, EntityDataAccess cache, Object key, SoftLock lock) {
+        withSession(sessionFactory, session -> {
+            cache.unlockItem(session, key, lock);
+            return null;
+        });
+    }
+
+    // The session of the JPA transaction this write joins, or a short-lived one outside of it
+    private <T> T withSession(SessionFactoryImplementor sessionFactory,
+                              Function<SharedSessionContractImplementor, T> action) {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+        if (holder != null) {
+            return action.apply(holder.getEntityManager().unwrap(SharedSessionContractImplementor.class));
+        }
+        try (SessionImplementor session = sessionFactory.openTemporarySession()) {
+            return action.apply(session);
+        }
+    }
+}
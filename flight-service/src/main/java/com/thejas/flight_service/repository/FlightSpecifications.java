@@ -0,0 +1,72 @@
+package com.thejas.flight_service.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.thejas.flight_service.entity.Flight;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Criteria building blocks for the admin advanced search. Each filter is
+ * {@code null}-safe: a {@code null} argument yields no restriction.
+ */
+public final class FlightSpecifications {
+
+    private FlightSpecifications() {
+    }
+
+    public static Specification<Flight> contains(String attribute, String value) {
+        return (root, query, cb) -> value == null ? null
+                : cb.like(root.get(attribute), "%" + escapeLike(value) + "%", '\\');
+    }
+
+    public static Specification<Flight> hasStatus(String status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Flight> departsAfter(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThan(root.get("departureDateTime"), from);
+    }
+
+    public static Specification<Flight> departsBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("departureDateTime"), to);
+    }
+
+    /**
+     * Keyset predicate selecting rows strictly after ({@code sortValue}, {@code lastId}) in
+     * the order {@code sortBy, id}. PostgreSQL sorts NULLs last ascending and first
+     * descending, so the predicate follows the same placement for nullable sort columns.
+     */
+    public static <T extends Comparable<? super T>> Specification<Flight> after(
+            String sortBy, Sort.Direction direction, T sortValue, Long lastId) {
+        return (root, query, cb) -> {
+            if (lastId == null) {
+                return null;
+            }
+            Path<T> column = root.get(sortBy);
+            Path<Long> id = root.get("id");
+            boolean ascending = direction.isAscending();
+
+            if ("id".equals(sortBy)) {
+                return ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+            }
+
+            Predicate tieBreak = ascending ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+            if (sortValue == null) {
+                Predicate inNullRun = cb.and(cb.isNull(column), tieBreak);
+                return ascending ? inNullRun : cb.or(inNullRun, cb.isNotNull(column));
+            }
+            Predicate beyond = ascending ? cb.greaterThan(column, sortValue) : cb.lessThan(column, sortValue);
+            Predicate sameValue = cb.and(cb.equal(column, sortValue), tieBreak);
+            return ascending ? cb.or(beyond, sameValue, cb.isNull(column)) : cb.or(beyond, sameValue);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
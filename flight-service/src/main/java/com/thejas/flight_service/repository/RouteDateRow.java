@@ -0,0 +1,12 @@
+package com.thejas.flight_service.repository;
+
+import java.time.LocalDate;
+
+/**
+ * One distinct (source, destination, departureDate) served by at least one flight.
+ */
+public interface RouteDateRow {
+    String getSource();
+    String getDestination();
+    LocalDate getDepartureDate();
+}
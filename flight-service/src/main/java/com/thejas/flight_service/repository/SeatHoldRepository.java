@@ -0,0 +1,37 @@
+package com.thejas.flight_service.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.thejas.flight_service.entity.SeatHold;
+
+import jakarta.persistence.LockModeType;
+
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    List<SeatHold> findByStatus(String status);
+
+    /**
+     * Row-locks one hold so seat picks against it are serialized with its release or expiry.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id = :id")
+    Optional<SeatHold> findForUpdate(@Param("id") Long id);
+
+    /**
+     * Moves a hold from one of {@code fromStatuses} to {@code toStatus}. Returns 0 if
+     * another request or instance already moved it, so each transition happens once.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SeatHold h SET h.status = :toStatus WHERE h.id = :id AND h.status IN :fromStatuses")
+    int transition(@Param("id") Long id, @Param("fromStatuses") List<String> fromStatuses,
+                   @Param("toStatus") String toStatus);
+}
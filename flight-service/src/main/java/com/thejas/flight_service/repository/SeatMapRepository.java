@@ -0,0 +1,25 @@
+package com.thejas.flight_service.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.thejas.flight_service.entity.SeatMap;
+
+import jakarta.persistence.LockModeType;
+
+public interface SeatMapRepository extends JpaRepository<SeatMap, Long> {
+
+    List<SeatMap> findByFlightIdOrderByFirstRowAsc(Long flightId);
+
+    /**
+     * Row-locks one cabin so concurrent seat assignments on it are serialized.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM SeatMap m WHERE m.flightId = :flightId AND m.cabin = :cabin")
+    Optional<SeatMap> findForUpdate(@Param("flightId") Long flightId, @Param("cabin") String cabin);
+}
@@ -0,0 +1,104 @@
+package com.thejas.flight_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.thejas.flight_service.dto.BulkPriceUpdateJob;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.repository.FlightRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs airline-wide price changes in the background. Each chunk of ids is updated
+ * with one set-based UPDATE in its own transaction, so a large airline never holds
+ * a long transaction and the caller can poll progress instead of waiting on HTTP.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkPriceUpdateService {
+
+    private static final int CHUNK_SIZE = 5_000;
+    private static final long FINISHED_JOB_RETENTION_HOURS = 24;
+
+    private final FlightRepository flightRepository;
+    private final FlightSearchIndex flightSearchIndex;
+
+    private final Map<String, BulkPriceUpdateJob> jobs = new ConcurrentHashMap<>();
+    // One job at a time keeps concurrent updates of the same airline from compounding mid-way
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "bulk-price-update");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BulkPriceUpdateJob submit(String airline, double percentageChange) {
+        BulkPriceUpdateJob job = new BulkPriceUpdateJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setAirline(airline);
+        job.setPercentageChange(percentageChange);
+        jobs.put(job.getJobId(), job);
+        executor.submit(() -> run(job));
+        return job;
+    }
+
+    public BulkPriceUpdateJob getJob(String jobId) {
+        BulkPriceUpdateJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Job not found");
+        }
+        return job;
+    }
+
+    private void run(BulkPriceUpdateJob job) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus("RUNNING");
+        double factor = 1 + job.getPercentageChange() / 100;
+        try {
+            job.setTotalFlights(flightRepository.countActiveByAirline(job.getAirline()));
+            long lastId = 0L;
+            List<Long> ids;
+            while (!(ids = flightRepository.findActiveIdsByAirline(
+                    job.getAirline(), lastId, Pageable.ofSize(CHUNK_SIZE))).isEmpty()) {
+                int updated = flightRepository.multiplyPrices(ids, factor);
+                flightSearchIndex.multiplyPrices(ids, factor);
+                job.setUpdatedFlights(job.getUpdatedFlights() + updated);
+                lastId = ids.get(ids.size() - 1);
+            }
+            job.setStatus("COMPLETED");
+        } catch (RuntimeException e) {
+            log.error("Bulk price update {} for airline {} failed", job.getJobId(), job.getAirline(), e);
+            job.setError(e.getMessage());
+            job.setStatus("FAILED");
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+        }
+        log.info("Bulk price update {} for airline {} {}: {} flights in {}",
+                job.getJobId(), job.getAirline(), job.getStatus(), job.getUpdatedFlights(),
+                Duration.between(job.getStartedAt(), job.getFinishedAt()));
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(FINISHED_JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,66 @@
+package com.thejas.flight_service.service;
+
+import java.util.List;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.repository.FlightRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-time migration of legacy rows into the indexed departure_date_time column.
+ * Runs in id-ordered batches before the application reports ready; once every row is
+ * filled the first query finds nothing and startup continues immediately.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepartureDateTimeBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final FlightRepository flightRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = flightRepository.findDepartureDateTimeBackfillIds(afterId, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += backfill(ids);
+            afterId = ids.get(ids.size() - 1);
+        } while (ids.size() == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled departure_date_time for {} flights", total);
+        }
+    }
+
+    // A batch that fails is retried row by row, so one unreadable legacy row is skipped
+    // instead of keeping the service from starting
+    private int backfill(List<Long> ids) {
+        try {
+            return flightRepository.backfillDepartureDateTime(ids);
+        } catch (DataAccessException e) {
+            int updated = 0;
+            for (Long id : ids) {
+                try {
+                    updated += flightRepository.backfillDepartureDateTime(List.of(id));
+                } catch (DataAccessException rowFailure) {
+                    log.warn("Skipping departure_date_time backfill for flight {}: {}", id,
+                            rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+            return updated;
+        }
+    }
+}
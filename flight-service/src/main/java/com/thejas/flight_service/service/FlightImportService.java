@@ -0,0 +1,384 @@
+package com.thejas.flight_service.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejas.flight_service.dto.FlightImportJob;
+import com.thejas.flight_service.dto.FlightImportReport;
+import com.thejas.flight_service.entity.Flight;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming import of airline schedules, run as a background job. The request only
+ * copies the body to a temporary file and checks its header; the job then reads it line
+ * by line, validates each row on its own and writes valid rows in chunks, each chunk one
+ * JDBC batch in its own transaction. Memory use is bounded by the chunk size, not the
+ * file size, a bad row or a failed chunk does not stop the rest of the import, and the
+ * caller polls the job for progress and the per-row report.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightImportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final long FINISHED_JOB_RETENTION_HOURS = 24;
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("flightnumber", "airline", "source",
+            "destination", "departuredate", "departuretime", "availableseats", "price");
+
+    private final FlightService flightService;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, FlightImportJob> jobs = new ConcurrentHashMap<>();
+    // One import at a time bounds the write load imports put on the database
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "flight-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Queues a CSV import with a header row naming the {@code Flight} fields (any order,
+     * case-insensitive). Fields may be double-quoted; quoted fields cannot span lines.
+     */
+    public FlightImportJob submitCsv(InputStream body) throws IOException {
+        Path file = spool(body, "csv");
+        try (BufferedReader reader = reader(file)) {
+            csvColumns(reader.readLine());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return submit("csv", file, this::importCsv);
+    }
+
+    /**
+     * Queues an import of one JSON {@code Flight} object per line.
+     */
+    public FlightImportJob submitNdjson(InputStream body) throws IOException {
+        return submit("ndjson", spool(body, "ndjson"), this::importNdjson);
+    }
+
+    public FlightImportJob getJob(String jobId) {
+        FlightImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Job not found");
+        }
+        return job;
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(FINISHED_JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private FlightImportJob submit(String format, Path file, ImportFormat importer) {
+        FlightImportJob job = new FlightImportJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.getReport().setFormat(format);
+        jobs.put(job.getJobId(), job);
+        executor.submit(() -> run(job, file, importer));
+        return job;
+    }
+
+    private void run(FlightImportJob job, Path file, ImportFormat importer) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus("RUNNING");
+        Import run = new Import(job.getReport());
+        try (BufferedReader reader = reader(file)) {
+            importer.read(reader, run);
+            run.finish();
+            job.setStatus("COMPLETED");
+        } catch (IOException | RuntimeException e) {
+            log.error("Flight import {} failed after {} rows", job.getJobId(), job.getReport().getRowsRead(), e);
+            job.setError(e.getMessage());
+            job.setStatus("FAILED");
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    // The body can only be read while the request lasts; the job reads the copy
+    private static Path spool(InputStream body, String format) throws IOException {
+        Path file = Files.createTempFile("flight-import-", "." + format);
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void importCsv(BufferedReader reader, Import run) throws IOException {
+        Map<String, Integer> columns = csvColumns(reader.readLine());
+        long line = 1;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            run.countRow();
+            Flight flight;
+            try {
+                flight = fromCsv(parseCsvLine(text), columns);
+            } catch (RuntimeException e) {
+                run.reject(line, "Unparseable row: " + e.getMessage());
+                continue;
+            }
+            run.accept(line, flight);
+        }
+    }
+
+    private void importNdjson(BufferedReader reader, Import run) throws IOException {
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            run.countRow();
+            Flight flight;
+            try {
+                flight = objectMapper.readValue(text, Flight.class);
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Unparseable row: " + e.getOriginalMessage());
+                continue;
+            }
+            run.accept(line, flight);
+        }
+    }
+
+    private static Map<String, Integer> csvColumns(String header) {
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is required");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseCsvLine(header.replace("\uFEFF", ""));
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV column missing: " + required);
+            }
+        }
+        return columns;
+    }
+
+    @FunctionalInterface
+    private interface ImportFormat {
+        void read(BufferedReader reader, Import run) throws IOException;
+    }
+
+    private final class Import {
+        private final FlightImportReport report;
+        private final long start = System.currentTimeMillis();
+        private final List<Flight> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+
+        private Import(FlightImportReport report) {
+            this.report = report;
+        }
+
+        private void countRow() {
+            report.setRowsRead(report.getRowsRead() + 1);
+        }
+
+        private void accept(long line, Flight flight) {
+            String error = validate(flight);
+            if (error != null) {
+                reject(line, error);
+                return;
+            }
+            chunk.add(flight);
+            chunkLines.add(line);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void reject(long line, String message) {
+            report.setRejectedRows(report.getRejectedRows() + 1);
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(new FlightImportReport.RowError(line, message));
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                updateThroughput();
+                return;
+            }
+            try {
+                flightService.createFlights(chunk);
+                report.setImportedRows(report.getImportedRows() + chunk.size());
+            } catch (DataAccessException e) {
+                log.warn("Import chunk at lines {}-{} failed", chunkLines.get(0), chunkLines.get(chunkLines.size() - 1), e);
+                for (Long line : chunkLines) {
+                    reject(line, "Chunk not imported: " + e.getMostSpecificCause().getMessage());
+                }
+            }
+            chunk.clear();
+            chunkLines.clear();
+            updateThroughput();
+        }
+
+        private void finish() {
+            flush();
+            log.info("Imported {} of {} {} rows in {} ms", report.getImportedRows(), report.getRowsRead(),
+                    report.getFormat(), report.getElapsedMillis());
+        }
+
+        private void updateThroughput() {
+            long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+            report.setElapsedMillis(elapsed);
+            report.setRowsPerSecond(report.getRowsRead() * 1000.0 / elapsed);
+        }
+    }
+
+    private static String validate(Flight flight) {
+        if (isBlank(flight.getFlightNumber()) || isBlank(flight.getAirline())
+                || isBlank(flight.getSource()) || isBlank(flight.getDestination())) {
+            return "flightNumber, airline, source and destination are required";
+        }
+        if (flight.getSource().equalsIgnoreCase(flight.getDestination())) {
+            return "source and destination must differ";
+        }
+        flight.normalizeDepartureDateTime();
+        LocalDateTime departure = flight.getDepartureTime();
+        if (departure == null) {
+            return "departureDate and departureTime (HH:mm) are required";
+        }
+        if (flight.getArrivalDateTime() != null && !flight.getArrivalDateTime().isAfter(departure)) {
+            return "arrivalDateTime must be after departure";
+        }
+        if (flight.getAvailableSeats() < 0 || flight.getTotalSeats() < 0
+                || (flight.getTotalSeats() > 0 && flight.getAvailableSeats() > flight.getTotalSeats())) {
+            return "seat counts must be non-negative and availableSeats at most totalSeats";
+        }
+        if (flight.getPrice() < 0) {
+            return "price must be non-negative";
+        }
+        if (isBlank(flight.getStatus())) {
+            flight.setStatus("ACTIVE");
+        }
+        return null;
+    }
+
+    private static Flight fromCsv(List<String> values, Map<String, Integer> columns) {
+        Flight flight = new Flight();
+        flight.setFlightNumber(value(values, columns, "flightnumber"));
+        flight.setAirline(value(values, columns, "airline"));
+        flight.setSource(value(values, columns, "source"));
+        flight.setDestination(value(values, columns, "destination"));
+        flight.setDepartureDate(LocalDate.parse(value(values, columns, "departuredate")));
+        flight.setDepartureTime(value(values, columns, "departuretime"));
+        flight.setAvailableSeats(Integer.parseInt(value(values, columns, "availableseats")));
+        flight.setPrice(Double.parseDouble(value(values, columns, "price")));
+
+        String arrival = value(values, columns, "arrivaldatetime");
+        if (!isBlank(arrival)) {
+            flight.setArrivalDateTime(LocalDateTime.parse(arrival));
+        }
+        String totalSeats = value(values, columns, "totalseats");
+        if (!isBlank(totalSeats)) {
+            flight.setTotalSeats(Integer.parseInt(totalSeats));
+        }
+        String status = value(values, columns, "status");
+        if (!isBlank(status)) {
+            flight.setStatus(status);
+        }
+        return flight;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static BufferedReader reader(Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8), 64 * 1024);
+    }
+}
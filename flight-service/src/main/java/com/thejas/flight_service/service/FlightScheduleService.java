@@ -0,0 +1,227 @@
+package com.thejas.flight_service.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.entity.FlightSchedule;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.repository.FlightBatchWriter;
+import com.thejas.flight_service.repository.FlightScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expands recurring schedules into dated flights, keeping each active schedule expanded
+ * a rolling {@code HORIZON_DAYS} days ahead. Expansion resumes after the schedule's
+ * {@code expandedThrough} date, and every batch of flights is inserted in the same
+ * transaction that advances it with a compare-and-set, so a date is never expanded twice,
+ * even by two instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightScheduleService {
+
+    private static final int HORIZON_DAYS = 120;
+    private static final int BATCH_SIZE = 1_000;
+    private static final DateTimeFormatter DEPARTURE_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final FlightScheduleRepository flightScheduleRepository;
+    private final FlightBatchWriter flightBatchWriter;
+    private final FlightSearchIndex flightSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Saves the schedule and expands it up to the horizon right away; later dates
+     * follow from the nightly roll-forward.
+     */
+    public FlightSchedule createSchedule(FlightSchedule schedule) {
+        validate(schedule);
+        schedule.setId(null);
+        schedule.setStatus(FlightSchedule.ACTIVE);
+        schedule.setExpandedThrough(null);
+        FlightSchedule saved = flightScheduleRepository.save(schedule);
+        expand(saved, LocalDate.now().plusDays(HORIZON_DAYS));
+        return saved;
+    }
+
+    public List<FlightSchedule> getAllSchedules() {
+        return flightScheduleRepository.findAll();
+    }
+
+    public FlightSchedule getSchedule(Long id) {
+        return flightScheduleRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Schedule not found"));
+    }
+
+    /**
+     * Stops further expansion; flights already generated stay as they are.
+     */
+    public FlightSchedule deactivateSchedule(Long id) {
+        if (flightScheduleRepository.updateStatus(id, FlightSchedule.INACTIVE) == 0) {
+            throw new RuntimeException("Schedule not found");
+        }
+        return getSchedule(id);
+    }
+
+    @Scheduled(cron = "0 15 0 * * *")
+    public void rollForward() {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(HORIZON_DAYS);
+        for (FlightSchedule schedule : flightScheduleRepository
+                .findByStatusAndValidToGreaterThanEqual(FlightSchedule.ACTIVE, today)) {
+            try {
+                expand(schedule, horizon);
+            } catch (RuntimeException e) {
+                log.error("Expanding schedule {} ({}) failed", schedule.getId(), schedule.getFlightNumber(), e);
+            }
+        }
+    }
+
+    private void expand(FlightSchedule schedule, LocalDate horizon) {
+        // The caller's copy may predate another run's progress; only the row is authoritative
+        FlightSchedule current = flightScheduleRepository.findById(schedule.getId()).orElse(null);
+        if (current == null || !FlightSchedule.ACTIVE.equals(current.getStatus())) {
+            return;
+        }
+        LocalDate expandedThrough = current.getExpandedThrough();
+        LocalDate from = current.getValidFrom();
+        if (from.isBefore(LocalDate.now())) {
+            from = LocalDate.now();
+        }
+        if (expandedThrough != null && !expandedThrough.isBefore(from)) {
+            from = expandedThrough.plusDays(1);
+        }
+        LocalDate to = current.getValidTo().isBefore(horizon) ? current.getValidTo() : horizon;
+        if (from.isAfter(to)) {
+            return;
+        }
+
+        Set<DayOfWeek> days = operatingDays(current.getDaysOfWeek());
+        List<Flight> batch = new ArrayList<>(BATCH_SIZE);
+        int created = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (days.contains(date.getDayOfWeek())) {
+                batch.add(toFlight(current, date));
+                if (batch.size() == BATCH_SIZE) {
+                    if (!write(current, batch, expandedThrough, date)) {
+                        logSkipped(current);
+                        return;
+                    }
+                    created += BATCH_SIZE;
+                    expandedThrough = date;
+                }
+            }
+        }
+        int last = batch.size();
+        if (!write(current, batch, expandedThrough, to)) {
+            logSkipped(current);
+            return;
+        }
+        created += last;
+        schedule.setExpandedThrough(to);
+        log.info("Schedule {} ({}) expanded through {}: {} flights", current.getId(),
+                current.getFlightNumber(), to, created);
+    }
+
+    /**
+     * Inserts the batch and moves the cursor from {@code previous} to {@code through} in
+     * one transaction. When the cursor has moved meanwhile the inserts are rolled back
+     * and {@code false} is returned, so no date is ever expanded twice.
+     */
+    private boolean write(FlightSchedule schedule, List<Flight> batch, LocalDate previous, LocalDate through) {
+        List<Flight> flights = new ArrayList<>(batch);
+        batch.clear();
+        boolean written = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            flightBatchWriter.insert(flights);
+            if (flightScheduleRepository.advanceExpandedThrough(schedule.getId(), previous, through) == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            return true;
+        }));
+        if (written) {
+            flights.forEach(flightSearchIndex::upsert);
+        }
+        return written;
+    }
+
+    private static void logSkipped(FlightSchedule schedule) {
+        log.info("Schedule {} ({}) was expanded or deactivated concurrently; leaving the rest to that run",
+                schedule.getId(), schedule.getFlightNumber());
+    }
+
+    private static Flight toFlight(FlightSchedule schedule, LocalDate date) {
+        Flight flight = new Flight();
+        flight.setFlightNumber(schedule.getFlightNumber());
+        flight.setAirline(schedule.getAirline());
+        flight.setSource(schedule.getSource());
+        flight.setDestination(schedule.getDestination());
+        flight.setDepartureDate(date);
+        flight.setDepartureTime(schedule.getDepartureTime());
+        flight.normalizeDepartureDateTime();
+        flight.setArrivalDateTime(flight.getDepartureDateTime().plusMinutes(schedule.getDurationMinutes()));
+        flight.setTotalSeats(schedule.getTotalSeats());
+        flight.setAvailableSeats(schedule.getTotalSeats());
+        flight.setPrice(schedule.getPrice());
+        flight.setStatus("ACTIVE");
+        return flight;
+    }
+
+    private static Set<DayOfWeek> operatingDays(String daysOfWeek) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (char c : daysOfWeek.toCharArray()) {
+            days.add(DayOfWeek.of(c - '0'));
+        }
+        return days;
+    }
+
+    private static void validate(FlightSchedule schedule) {
+        if (isBlank(schedule.getFlightNumber()) || isBlank(schedule.getAirline())
+                || isBlank(schedule.getSource()) || isBlank(schedule.getDestination())) {
+            throw badRequest("flightNumber, airline, source and destination are required");
+        }
+        if (schedule.getDaysOfWeek() == null || !schedule.getDaysOfWeek().matches("[1-7]{1,7}")
+                || schedule.getDaysOfWeek().chars().distinct().count() != schedule.getDaysOfWeek().length()) {
+            throw badRequest("daysOfWeek must list distinct days 1 (Monday) to 7 (Sunday), e.g. 1357");
+        }
+        if (schedule.getValidFrom() == null || schedule.getValidTo() == null
+                || schedule.getValidTo().isBefore(schedule.getValidFrom())) {
+            throw badRequest("validFrom and validTo are required and validTo must not precede validFrom");
+        }
+        if (schedule.getDepartureTime() == null) {
+            throw badRequest("departureTime must be HH:mm");
+        }
+        try {
+            schedule.setDepartureTime(LocalTime.parse(schedule.getDepartureTime()).format(DEPARTURE_TIME_FORMAT));
+        } catch (DateTimeParseException e) {
+            throw badRequest("departureTime must be HH:mm");
+        }
+        if (schedule.getDurationMinutes() <= 0 || schedule.getTotalSeats() <= 0 || schedule.getPrice() < 0) {
+            throw badRequest("durationMinutes and totalSeats must be positive and price non-negative");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
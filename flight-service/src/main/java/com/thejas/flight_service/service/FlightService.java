@@ -1,43 +1,292 @@
 package com.thejas.flight_service.service;
 
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejas.flight_service.config.LocalCacheRegionFactory;
+import com.thejas.flight_service.config.ReplicaReads;
+import com.thejas.flight_service.dto.CacheRegionStatistics;
+import com.thejas.flight_service.dto.FareDay;
+import com.thejas.flight_service.dto.FlightPatch;
+import com.thejas.flight_service.dto.FlightSearchPage;
+import com.thejas.flight_service.dto.FlightStatistics;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.dto.SeatAvailability;
 import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.index.DepartureTimeline;
+import com.thejas.flight_service.index.FareCalendarIndex;
+import com.thejas.flight_service.index.FlightCatalog;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.index.FlightVersions;
+import com.thejas.flight_service.index.OccupancyIndex;
+import com.thejas.flight_service.index.ServedRoutes;
+import com.thejas.flight_service.repository.FlightAggregateRow;
+import com.thejas.flight_service.repository.FlightBatchWriter;
 import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.repository.FlightSeatWriter;
+import com.thejas.flight_service.repository.FlightSpecifications;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.HashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FlightService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
+    private static final int NDJSON_FLUSH_INTERVAL = 500;
+    private static final int MAX_FARE_CALENDAR_FLEX_DAYS = 15;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private static final Map<String, Function<String, Comparable<?>>> SORTABLE_FIELDS = Map.of(
+            "id", Long::valueOf,
+            "price", Double::valueOf,
+            "departureDateTime", LocalDateTime::parse);
+
     private final FlightRepository flightRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final FlightSearchIndex flightSearchIndex;
+    private final DepartureTimeline departureTimeline;
+    private final OccupancyIndex occupancyIndex;
+    private final ServedRoutes servedRoutes;
+    private final FlightCatalog flightCatalog;
+    private final FareCalendarIndex fareCalendarIndex;
+    private final PricingEngine pricingEngine;
+    private final FlightBatchWriter flightBatchWriter;
+    private final FlightSeatWriter flightSeatWriter;
+    private final FlightVersions flightVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final ReplicaReads replicaReads;
+
+    public List<FlightSummary> searchFlights(String source, String destination, LocalDate date) {
+        if (!servedRoutes.mayServe(source, destination, date)) {
+            return List.of();
+        }
+        List<FlightSummary> flights;
+        if (flightSearchIndex.isReady()) {
+            flights = flightSearchIndex.search(source, destination, date);
+        } else {
+            // Index still warming up after startup
+            flights = replicaReads.execute(() -> flightRepository
+                    .findBySourceAndDestinationAndDepartureDate(source, destination, date)).stream()
+                    .map(FlightSummary::from)
+                    .collect(Collectors.toList());
+        }
+        return flights.stream()
+                .map(pricingEngine::withLiveFare)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * ETag of {@link #searchFlights}, or {@code null} while the index is warming up.
+     * Read it before the data: a concurrent change then only makes the tag older than the
+     * response, which costs a refetch, never a stale 304.
+     */
+    public String searchETag(String source, String destination, LocalDate date) {
+        return flightSearchIndex.isReady() ? flightVersions.routeTag(source, destination, date) : null;
+    }
+
+    /**
+     * ETag of {@link #getFlightById}, or {@code null} if it cannot be answered from memory.
+     */
+    public String flightETag(Long id) {
+        return flightSearchIndex.isReady() ? flightVersions.flightTag(id) : null;
+    }
+
+    /**
+     * The stored flight with its price replaced by the current live fare, read from a
+     * replica. A response sent under a {@link #flightETag} must not be older than the
+     * index the tag comes from, or it would be 304'd until the next change; if the
+     * replica has not caught up with the indexed version yet, the primary answers.
+     */
+    public Optional<Flight> getFlightById(Long id, boolean tagged) {
+        Optional<Flight> stored = replicaReads.execute(() -> flightRepository.findById(id));
+        if (tagged && isBehindIndex(id, stored)) {
+            stored = flightRepository.findById(id);
+        }
+        return stored.map(flight -> {
+            Flight priced = new Flight();
+            BeanUtils.copyProperties(flight, priced);
+            priced.setPrice(pricingEngine.liveFare(FlightSummary.from(flight)));
+            return priced;
+        });
+    }
+
+    private boolean isBehindIndex(Long id, Optional<Flight> stored) {
+        FlightSummary indexed = flightSearchIndex.get(id);
+        if (indexed == null) {
+            return false;
+        }
+        Long expected = indexed.getVersion();
+        return stored.map(Flight::getVersion)
+                .map(version -> expected == null || version < expected)
+                .orElse(true);
+    }
+
+    public SeatAvailability getSeatAvailability(Long id) {
+        FlightSummary flight = flightSearchIndex.isReady() ? flightSearchIndex.get(id)
+                : flightRepository.findById(id).map(FlightSummary::from).orElse(null);
+        if (flight == null) {
+            throw new RuntimeException("Flight not found");
+        }
+        return SeatAvailability.from(flight);
+    }
 
     public void reduceSeats(Long flightId, int numSeats) {
-        Flight flight = flightRepository.findById(flightId)
-                .orElseThrow(() -> new RuntimeException("Flight not found"));
-    
-        int newSeats = flight.getAvailableSeats() - numSeats;
-    
-        if (newSeats < 0) {
+        requirePositive(numSeats);
+        // Single conditional UPDATE: the row lock is held for one statement only,
+        // and concurrent bookings on other flights never wait on each other.
+        int updated = flightSeatWriter.decrementSeats(flightId, numSeats);
+
+        if (updated == 0) {
+            if (!flightRepository.existsById(flightId)) {
+                throw new RuntimeException("Flight not found");
+            }
             throw new RuntimeException("Seat count underflow");
         }
-    
-        flight.setAvailableSeats(newSeats);
-        flightRepository.save(flight);
+        adjustIndexedSeats(flightId, -numSeats);
+    }
+
+    /**
+     * Gives seats back to a flight, never beyond its total seats.
+     */
+    public void restoreSeats(Long flightId, int numSeats) {
+        requirePositive(numSeats);
+        int updated = flightSeatWriter.incrementSeats(flightId, numSeats);
+
+        if (updated == 0) {
+            if (!flightRepository.existsById(flightId)) {
+                throw new RuntimeException("Flight not found");
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat count would exceed total seats");
+        }
+        adjustIndexedSeats(flightId, numSeats);
+    }
+
+    private static void requirePositive(int numSeats) {
+        if (numSeats <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "numSeats must be positive");
+        }
+    }
+
+    private void adjustIndexedSeats(Long flightId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Inside a caller's transaction the seat update may still roll back; the index
+            // has no record of that, so it only sees the change once it has committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    flightSearchIndex.adjustSeats(flightId, delta);
+                }
+            });
+        } else {
+            flightSearchIndex.adjustSeats(flightId, delta);
+        }
+    }
+
+    public List<FareDay> getFareCalendar(String source, String destination, LocalDate date, int flexDays) {
+        int window = Math.max(0, Math.min(flexDays, MAX_FARE_CALENDAR_FLEX_DAYS));
+        LocalDate from = date.minusDays(window);
+        LocalDate to = date.plusDays(window);
+        if (flightSearchIndex.isReady()) {
+            return fareCalendarIndex.fares(source, destination, from, to);
+        }
+
+        // Priced like the index path, so the answer does not depend on startup state
+        Map<LocalDate, List<FlightSummary>> byDate = !servedRoutes.servesRoute(source, destination) ? Map.of()
+                : flightRepository.findBySourceAndDestinationAndDepartureDateBetween(source, destination, from, to).stream()
+                .filter(f -> f.getAvailableSeats() > 0 && !"CANCELLED".equals(f.getStatus()))
+                .map(f -> pricingEngine.withLiveFare(FlightSummary.from(f)))
+                .collect(Collectors.groupingBy(FlightSummary::getDepartureDate));
+        List<FareDay> calendar = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            List<FlightSummary> flights = byDate.getOrDefault(day, List.of());
+            FlightSummary cheapest = flights.stream().min(Comparator.comparingDouble(FlightSummary::getPrice)).orElse(null);
+            calendar.add(cheapest == null
+                    ? new FareDay(day, null, null, 0)
+                    : new FareDay(day, cheapest.getPrice(), cheapest.getId(), flights.size()));
+        }
+        return calendar;
+    }
+
+    public List<Flight> getAllFlights() {
+        return replicaReads.execute(flightRepository::findAll);
+    }
+
+    /**
+     * Writes every flight as one JSON document per line. Rows come from a forward-only
+     * cursor and are detached after writing, so memory stays flat regardless of table size.
+     */
+    public void streamAllFlights(OutputStream outputStream) throws IOException {
+        try {
+            replicaReads.execute(() -> {
+                writeAllFlights(outputStream);
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeAllFlights(OutputStream outputStream) {
+        try (Stream<Flight> flights = flightRepository.streamAll()) {
+            Iterator<Flight> iterator = flights.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Flight flight = iterator.next();
+                outputStream.write(objectMapper.writeValueAsBytes(flight));
+                outputStream.write('\n');
+                entityManager.detach(flight);
+                if (++written % NDJSON_FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     // Admin methods
     public Page<Flight> getAllFlightsPaginated(Pageable pageable) {
-        return flightRepository.findAll(pageable);
+        return replicaReads.execute(() -> flightRepository.findAll(pageable));
     }
 
     public Flight createFlight(Flight flight) {
@@ -45,14 +294,59 @@ public class FlightService {
         if (flight.getTotalSeats() == 0 && flight.getAvailableSeats() > 0) {
             flight.setTotalSeats(flight.getAvailableSeats());
         }
-        return flightRepository.save(flight);
+        Flight saved = flightRepository.save(flight);
+        flightSearchIndex.upsert(saved);
+        return saved;
+    }
+
+    /**
+     * Inserts the flights as one JDBC batch in its own transaction and indexes them
+     * once it has committed. Meant for large, already validated chunks.
+     */
+    public List<Flight> createFlights(List<Flight> flights) {
+        for (Flight flight : flights) {
+            flight.normalizeDepartureDateTime();
+            if (flight.getTotalSeats() == 0 && flight.getAvailableSeats() > 0) {
+                flight.setTotalSeats(flight.getAvailableSeats());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> flightBatchWriter.insert(flights));
+        flights.forEach(flightSearchIndex::upsert);
+        return flights;
     }
 
+    /**
+     * Full replacement of a flight, only if it is still at the version the caller read;
+     * otherwise 409, since the body may carry seat counts that bookings have since changed.
+     */
     public Flight updateFlight(Flight flight) {
+        if (flight.getVersion() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "version is required");
+        }
         if (!flightRepository.existsById(flight.getId())) {
             throw new RuntimeException("Flight not found");
         }
-        return flightRepository.save(flight);
+        Flight saved;
+        try {
+            // Merging a detached flight checks its version against the row
+            saved = transactionTemplate.execute(status -> flightRepository.saveAndFlush(flight));
+        } catch (OptimisticLockingFailureException e) {
+            throw staleVersion(flight.getId(), flight.getVersion());
+        }
+        flightSearchIndex.upsert(saved);
+        return saved;
+    }
+
+    /**
+     * Writes only the fields present in {@code patch}. Without a version the patch applies
+     * to whatever the flight currently is, retried a few times if a concurrent write wins.
+     */
+    public Flight patchFlight(Long id, FlightPatch patch) {
+        Flight saved = patch.getVersion() != null
+                ? writeFlight(id, patch.getVersion(), patch::applyTo)
+                : retryOnConflict(() -> writeFlight(id, null, patch::applyTo));
+        flightSearchIndex.upsert(saved);
+        return saved;
     }
 
     public void deleteFlight(Long id) {
@@ -60,120 +354,211 @@ public class FlightService {
             throw new RuntimeException("Flight not found");
         }
         flightRepository.deleteById(id);
+        flightSearchIndex.remove(id);
     }
 
     public Flight cancelFlight(Long id) {
-        Flight flight = flightRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Flight not found"));
-        flight.setStatus("CANCELLED");
-        return flightRepository.save(flight);
+        Flight saved = retryOnConflict(() -> writeFlight(id, null, flight -> flight.setStatus("CANCELLED")));
+        flightSearchIndex.upsert(saved);
+        return saved;
     }
 
-    public long getTotalFlightsCount() {
-        return flightRepository.count();
+    // Loads, changes and flushes the flight in one transaction; the UPDATE is conditional
+    // on the version, and expectedVersion (if given) must also match what was loaded
+    private Flight writeFlight(Long id, Long expectedVersion, Consumer<Flight> change) {
+        try {
+            return transactionTemplate.execute(status -> {
+                Flight flight = flightRepository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("Flight not found"));
+                if (expectedVersion != null && !expectedVersion.equals(flight.getVersion())) {
+                    throw new ObjectOptimisticLockingFailureException(Flight.class, id);
+                }
+                change.accept(flight);
+                return flightRepository.saveAndFlush(flight);
+            });
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            throw staleVersion(id, expectedVersion);
+        }
     }
 
-    public long getActiveFlightsCount() {
-        return flightRepository.findAll().stream()
-                .filter(f -> !"CANCELLED".equals(f.getStatus()))
-                .count();
+    private static ResponseStatusException staleVersion(Long id, Long version) {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Flight " + id + " has changed since version " + version);
     }
 
-    public long getCancelledFlightsCount() {
-        return flightRepository.findAll().stream()
-                .filter(f -> "CANCELLED".equals(f.getStatus()))
-                .count();
+    // For internal writes that do not depend on what the caller last read
+    private Flight retryOnConflict(Supplier<Flight> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Flight is being modified concurrently");
+                }
+            }
+        }
     }
 
-    public Map<String, Long> getFlightCountByAirline() {
-        List<Flight> flights = flightRepository.findAll();
-        return flights.stream()
-                .collect(Collectors.groupingBy(Flight::getAirline, Collectors.counting()));
-    }
-
-    public long getTotalAvailableSeats() {
-        return flightRepository.findAll().stream()
-                .mapToInt(Flight::getAvailableSeats)
-                .sum();
-    }
-
-    public double getAverageBookingRate() {
-        List<Flight> flights = flightRepository.findAll();
-        if (flights.isEmpty()) return 0.0;
-        
-        double totalBookingRate = flights.stream()
-                .mapToDouble(f -> {
-                    int totalSeats = f.getTotalSeats();
-                    // If totalSeats is 0, use availableSeats as totalSeats
-                    if (totalSeats == 0) {
-                        totalSeats = f.getAvailableSeats();
-                    }
-                    int bookedSeats = totalSeats - f.getAvailableSeats();
-                    return totalSeats > 0 ? (double) bookedSeats / totalSeats * 100 : 0;
-                })
-                .sum();
-        
-        return totalBookingRate / flights.size();
-    }
-
-    public List<Flight> advancedSearch(String flightNumber, String airline, String origin,
-                                     String destination, LocalDateTime departureFrom, 
-                                     LocalDateTime departureTo, String status) {
-        List<Flight> flights = flightRepository.findAll();
-        
-        return flights.stream()
-                .filter(f -> flightNumber == null || f.getFlightNumber().contains(flightNumber))
-                .filter(f -> airline == null || f.getAirline().contains(airline))
-                .filter(f -> origin == null || f.getOrigin().contains(origin))
-                .filter(f -> destination == null || f.getDestination().contains(destination))
-                .filter(f -> departureFrom == null || f.getDepartureTime().isAfter(departureFrom))
-                .filter(f -> departureTo == null || f.getDepartureTime().isBefore(departureTo))
-                .filter(f -> status == null || f.getStatus().equals(status))
+    /**
+     * Hit/miss counters of the second-level and query cache regions.
+     */
+    public List<CacheRegionStatistics> getCacheStatistics() {
+        RegionFactory regionFactory = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        if (!(regionFactory instanceof LocalCacheRegionFactory localCache)) {
+            return List.of();
+        }
+        return localCache.statistics().stream()
+                .sorted(Comparator.comparing(CacheRegionStatistics::getRegion))
                 .collect(Collectors.toList());
     }
 
-    public List<Flight> getUpcomingFlights(int hours) {
+    public FlightStatistics getFlightStatistics() {
+        if (flightSearchIndex.isReady()) {
+            return flightCatalog.statistics();
+        }
+        long total = 0;
+        long cancelled = 0;
+        long availableSeats = 0;
+        double bookingRateSum = 0;
+        Map<String, Long> byAirline = new HashMap<>();
+
+        for (FlightAggregateRow row : replicaReads.execute(flightRepository::aggregateByAirlineAndStatus)) {
+            total += row.getFlightCount();
+            if ("CANCELLED".equals(row.getStatus())) {
+                cancelled += row.getFlightCount();
+            }
+            availableSeats += row.getAvailableSeats();
+            bookingRateSum += row.getBookingRateSum();
+            String airline = row.getAirline() != null ? row.getAirline() : "UNKNOWN";
+            byAirline.merge(airline, row.getFlightCount(), Long::sum);
+        }
+
+        double bookingRate = total == 0 ? 0.0 : bookingRateSum / total;
+        return new FlightStatistics(total, total - cancelled, cancelled, byAirline, availableSeats, bookingRate);
+    }
+
+    public FlightSearchPage advancedSearch(String flightNumber, String airline, String origin,
+                                           String destination, LocalDateTime departureFrom,
+                                           LocalDateTime departureTo, String status,
+                                           String sortBy, Sort.Direction direction,
+                                           int size, String cursor) {
+        Function<String, Comparable<?>> sortValueParser = SORTABLE_FIELDS.get(sortBy);
+        if (sortValueParser == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "sortBy must be one of " + SORTABLE_FIELDS.keySet());
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        Cursor after = cursor == null || cursor.isBlank() ? null
+                : decodeCursor(cursor, sortBy, direction, sortValueParser);
+
+        // Fetch one extra row to learn whether another page follows, without a COUNT query
+        List<Flight> rows;
+        if (flightSearchIndex.isReady()) {
+            FlightCatalog.Filter filter = new FlightCatalog.Filter(flightNumber, airline, origin, destination,
+                    status, departureFrom, departureTo);
+            rows = flightCatalog.find(filter, sortBy, direction.isAscending(),
+                    after == null ? null : after.sortValue(), after == null ? null : after.lastId(), pageSize + 1);
+        } else {
+            rows = queryFlights(flightNumber, airline, origin, destination, departureFrom, departureTo, status,
+                    sortBy, direction, after, pageSize + 1);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = encodeCursor(sortBy, direction, rows.get(pageSize - 1));
+        }
+        return new FlightSearchPage(rows, rows.size(), nextCursor);
+    }
+
+    private List<Flight> queryFlights(String flightNumber, String airline, String origin, String destination,
+                                      LocalDateTime departureFrom, LocalDateTime departureTo, String status,
+                                      String sortBy, Sort.Direction direction, Cursor after, int limit) {
+        Specification<Flight> spec = Specification.allOf(
+                FlightSpecifications.contains("flightNumber", flightNumber),
+                FlightSpecifications.contains("airline", airline),
+                FlightSpecifications.contains("source", origin),
+                FlightSpecifications.contains("destination", destination),
+                FlightSpecifications.departsAfter(departureFrom),
+                FlightSpecifications.departsBefore(departureTo),
+                FlightSpecifications.hasStatus(status));
+
+        if (after != null) {
+            spec = spec.and(afterCursor(after, sortBy, direction));
+        }
+
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        Specification<Flight> query = spec;
+        return replicaReads.execute(() ->
+                flightRepository.findBy(query, q -> q.sortBy(sort).limit(limit).all()));
+    }
+
+    static String encodeCursor(String sortBy, Sort.Direction direction, Flight last) {
+        Object value = switch (sortBy) {
+            case "price" -> last.getPrice();
+            case "departureDateTime" -> last.getDepartureDateTime();
+            default -> last.getId();
+        };
+        String raw = sortBy + "|" + direction + "|" + (value == null ? "" : value) + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor, String sortBy, Sort.Direction direction,
+                               Function<String, Comparable<?>> sortValueParser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+                throw new IllegalArgumentException("cursor does not match the requested sort");
+            }
+            Comparable<?> sortValue = parts[2].isEmpty() ? null : sortValueParser.apply(parts[2]);
+            return new Cursor(sortValue, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor", e);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Specification<Flight> afterCursor(Cursor after, String sortBy, Sort.Direction direction) {
+        return FlightSpecifications.after(sortBy, direction, (Comparable) after.sortValue(), after.lastId());
+    }
+
+    record Cursor(Comparable<?> sortValue, Long lastId) {
+    }
+
+    public List<FlightSummary> getUpcomingFlights(int hours) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime deadline = now.plusHours(hours);
-        
-        return flightRepository.findAll().stream()
-                .filter(f -> f.getDepartureTime().isAfter(now) && f.getDepartureTime().isBefore(deadline))
-                .filter(f -> !"CANCELLED".equals(f.getStatus()))
-                .sorted((f1, f2) -> f1.getDepartureTime().compareTo(f2.getDepartureTime()))
+        if (flightSearchIndex.isReady()) {
+            return departureTimeline.departingBetween(now, deadline);
+        }
+        return flightRepository.findActiveDepartingBetween(now, deadline).stream()
+                .map(FlightSummary::from)
                 .collect(Collectors.toList());
     }
 
-    public List<Flight> getLowOccupancyFlights(int thresholdPercentage) {
-        return flightRepository.findAll().stream()
-                .filter(f -> {
-                    int totalSeats = f.getTotalSeats();
-                    // If totalSeats is 0, use availableSeats as totalSeats
-                    if (totalSeats == 0) {
-                        totalSeats = f.getAvailableSeats();
-                    }
-                    int bookedSeats = totalSeats - f.getAvailableSeats();
-                    double occupancyRate = totalSeats > 0 ? (double) bookedSeats / totalSeats * 100 : 0;
-                    return occupancyRate < thresholdPercentage;
-                })
-                .filter(f -> !"CANCELLED".equals(f.getStatus()))
-                .filter(f -> f.getDepartureTime().isAfter(LocalDateTime.now()))
+    public List<FlightSummary> getLowOccupancyFlights(int thresholdPercentage) {
+        if (flightSearchIndex.isReady()) {
+            return occupancyIndex.below(thresholdPercentage);
+        }
+        return flightRepository.findActiveDepartingAfterWithOccupancyBelow(LocalDateTime.now(), thresholdPercentage).stream()
+                .map(FlightSummary::from)
                 .collect(Collectors.toList());
     }
 
-    public int bulkUpdatePrices(String airline, double percentageChange) {
-        List<Flight> flights = flightRepository.findAll().stream()
-                .filter(f -> f.getAirline().equals(airline))
-                .filter(f -> !"CANCELLED".equals(f.getStatus()))
-                .collect(Collectors.toList());
-        
-        for (Flight flight : flights) {
-            double currentPrice = flight.getPrice();
-            double newPrice = currentPrice * (1 + percentageChange / 100);
-            flight.setPrice(newPrice);
-            flightRepository.save(flight);
+    public List<FlightSummary> getLeastOccupiedFlights(int limit) {
+        if (flightSearchIndex.isReady()) {
+            return occupancyIndex.bottom(limit);
         }
-        
-        return flights.size();
+        if (limit <= 0) {
+            return List.of();
+        }
+        return flightRepository.findActiveDepartingAfterByOccupancy(LocalDateTime.now(), PageRequest.of(0, limit)).stream()
+                .map(FlightSummary::from)
+                .collect(Collectors.toList());
     }
     
 }
@@ -0,0 +1,230 @@
+package com.thejas.flight_service.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.config.ItinerarySearchProperties;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.dto.Itinerary;
+import com.thejas.flight_service.dto.ItineraryResults;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.index.RouteGraph;
+import com.thejas.flight_service.index.ServedRoutes;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Direct and connecting itinerary search over the in-memory {@link RouteGraph}.
+ * First legs are explored in parallel on a dedicated bounded pool; branches are cut by
+ * the stop limit, the connection window, airport revisits, the running top-K cost bound
+ * and a time budget that also runs while tasks wait for a thread. Results cut short by
+ * the budget, or by a full pool, are marked partial.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItinerarySearchService {
+
+    public static final int MAX_STOPS = 2;
+    private static final int MAX_RESULTS = 100;
+
+    private final FlightSearchIndex flightSearchIndex;
+    private final RouteGraph routeGraph;
+    private final ServedRoutes servedRoutes;
+    private final PricingEngine pricingEngine;
+    private final ItinerarySearchProperties properties;
+    private final ExecutorService itinerarySearchExecutor;
+
+    public ItineraryResults search(String source, String destination, LocalDate date, int maxStops,
+                                  Duration minConnection, Duration maxConnection, int seats,
+                                  String sortBy, int limit) {
+        if (minConnection.isNegative() || maxConnection.compareTo(minConnection) < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid connection time window");
+        }
+        ToDoubleFunction<Itinerary> cost = switch (sortBy) {
+            case "price" -> Itinerary::getTotalPrice;
+            case "duration" -> Itinerary::getTotalDurationMinutes;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "sortBy must be price or duration");
+        };
+        // Nothing leaves the origin or reaches the destination: no itinerary, even while warming up
+        if (!servedRoutes.servesAirports(source, destination)
+                || (maxStops <= 0 && !servedRoutes.mayServe(source, destination, date))) {
+            return new ItineraryResults(List.of(), false);
+        }
+        if (!flightSearchIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Itinerary search is warming up");
+        }
+
+        Search search = new Search(destination, Math.max(0, Math.min(maxStops, MAX_STOPS)),
+                minConnection, maxConnection, Math.max(seats, 1),
+                new TopK(Math.max(1, Math.min(limit, MAX_RESULTS)), cost),
+                System.nanoTime() + properties.getBudget().toNanos());
+
+        LocalDateTime dayStart = date.atStartOfDay();
+        List<FlightSummary> firstLegs = new ArrayList<>(
+                routeGraph.departures(source, dayStart, dayStart.plusDays(1)));
+        List<Future<?>> tasks = new ArrayList<>(firstLegs.size());
+        try {
+            for (FlightSummary leg : firstLegs) {
+                tasks.add(itinerarySearchExecutor.submit(() -> {
+                    List<FlightSummary> path = new ArrayList<>(MAX_STOPS + 1);
+                    List<String> visited = new ArrayList<>(MAX_STOPS + 2);
+                    visited.add(source);
+                    search.extend(path, visited, leg);
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            // Pool saturated: search what was accepted rather than queue past the budget
+            search.cutOff = true;
+        }
+        awaitAll(tasks, search);
+        if (search.cutOff) {
+            log.warn("Itinerary search {} -> {} on {} hit its {} ms budget; returning partial results",
+                    source, destination, date, properties.getBudget().toMillis());
+        }
+        return new ItineraryResults(search.results.sorted(), search.cutOff);
+    }
+
+    /**
+     * Waits for the first-leg tasks until the search deadline; whatever has not finished
+     * by then, queued or running, is cancelled and the search marked cut off.
+     */
+    private static void awaitAll(List<Future<?>> tasks, Search search) {
+        try {
+            for (Future<?> task : tasks) {
+                long remaining = search.deadline - System.nanoTime();
+                task.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            search.cutOff = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            search.cutOff = true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Itinerary search failed", e.getCause());
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private final class Search {
+        private final String destination;
+        private final int maxStops;
+        private final Duration minConnection;
+        private final Duration maxConnection;
+        private final int seats;
+        private final TopK results;
+        private final long deadline;
+        private volatile boolean cutOff;
+
+        private Search(String destination, int maxStops, Duration minConnection, Duration maxConnection,
+                       int seats, TopK results, long deadline) {
+            this.destination = destination;
+            this.maxStops = maxStops;
+            this.minConnection = minConnection;
+            this.maxConnection = maxConnection;
+            this.seats = seats;
+            this.results = results;
+            this.deadline = deadline;
+        }
+
+        private void extend(List<FlightSummary> path, List<String> visited, FlightSummary leg) {
+            if (leg.getAvailableSeats() < seats || visited.contains(leg.getDestination())) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                cutOff = true;
+                return;
+            }
+            path.add(leg);
+            Itinerary candidate = toItinerary(path);
+            // Price and duration only grow as legs are added, so a partial path that
+            // already costs more than the current K-th best cannot produce a result.
+            if (results.admits(candidate)) {
+                if (leg.getDestination().equals(destination)) {
+                    results.offer(candidate);
+                } else if (path.size() <= maxStops) {
+                    visited.add(leg.getDestination());
+                    LocalDateTime arrival = leg.getArrivalDateTime();
+                    for (FlightSummary next : routeGraph.departures(leg.getDestination(),
+                            arrival.plus(minConnection), arrival.plus(maxConnection).plusNanos(1))) {
+                        extend(path, visited, next);
+                    }
+                    visited.remove(visited.size() - 1);
+                }
+            }
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private Itinerary toItinerary(List<FlightSummary> path) {
+        List<FlightSummary> legs = new ArrayList<>(path.size());
+        double price = 0;
+        for (FlightSummary leg : path) {
+            FlightSummary priced = pricingEngine.withLiveFare(leg);
+            legs.add(priced);
+            price += priced.getPrice();
+        }
+        long minutes = Duration.between(path.get(0).getDepartureTime(),
+                path.get(path.size() - 1).getArrivalDateTime()).toMinutes();
+        return new Itinerary(legs, price, minutes);
+    }
+
+    /**
+     * Thread-safe bounded collection of the K cheapest itineraries seen so far.
+     */
+    private static final class TopK {
+        private final int k;
+        private final ToDoubleFunction<Itinerary> cost;
+        private final Comparator<Itinerary> order;
+        private final PriorityQueue<Itinerary> worstFirst;
+        private volatile double bound = Double.POSITIVE_INFINITY;
+
+        private TopK(int k, ToDoubleFunction<Itinerary> cost) {
+            this.k = k;
+            this.cost = cost;
+            this.order = Comparator.comparingDouble(cost).thenComparingInt(Itinerary::getStops);
+            this.worstFirst = new PriorityQueue<>(order.reversed());
+        }
+
+        private boolean admits(Itinerary candidate) {
+            return cost.applyAsDouble(candidate) <= bound;
+        }
+
+        private synchronized void offer(Itinerary itinerary) {
+            worstFirst.offer(itinerary);
+            if (worstFirst.size() > k) {
+                worstFirst.poll();
+            }
+            if (worstFirst.size() == k) {
+                bound = cost.applyAsDouble(worstFirst.peek());
+            }
+        }
+
+        private synchronized List<Itinerary> sorted() {
+            List<Itinerary> sorted = new ArrayList<>(worstFirst);
+            sorted.sort(order);
+            return sorted;
+        }
+    }
+}
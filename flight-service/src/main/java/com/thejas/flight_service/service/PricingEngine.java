@@ -0,0 +1,99 @@
+package com.thejas.flight_service.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.thejas.flight_service.config.PricingProperties;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.index.FlightChangeListener;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Live fare = base price x occupancy multiplier x days-to-departure multiplier.
+ * The fare is cached per flight together with the buckets it was computed for, so it
+ * is only recomputed when seats cross an occupancy boundary, the departure moves into
+ * another day bucket or the base price changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingEngine implements FlightChangeListener {
+
+    private final PricingProperties properties;
+
+    private final Map<Long, CachedFare> cache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void validateCurves() {
+        if (properties.getOccupancyMultipliers().size() != properties.getOccupancyThresholds().size() + 1
+                || properties.getDaysToDepartureMultipliers().size() != properties.getDaysToDepartureThresholds().size() + 1) {
+            throw new IllegalStateException("flight.pricing: each curve needs exactly one more multiplier than thresholds");
+        }
+    }
+
+    public double liveFare(FlightSummary flight) {
+        if (!properties.isEnabled() || flight.getId() == null) {
+            return flight.getPrice();
+        }
+        int occupancyBucket = occupancyBucket(flight.getOccupancyPercentage());
+        int daysBucket = daysBucket(flight.getDepartureDate());
+
+        CachedFare cached = cache.get(flight.getId());
+        if (cached != null && cached.matches(occupancyBucket, daysBucket, flight.getPrice())) {
+            return cached.fare();
+        }
+        double fare = flight.getPrice()
+                * properties.getOccupancyMultipliers().get(occupancyBucket)
+                * properties.getDaysToDepartureMultipliers().get(daysBucket);
+        fare = Math.round(fare * 100) / 100.0;
+        cache.put(flight.getId(), new CachedFare(occupancyBucket, daysBucket, flight.getPrice(), fare));
+        return fare;
+    }
+
+    public FlightSummary withLiveFare(FlightSummary flight) {
+        return flight.withPrice(liveFare(flight));
+    }
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        if (current == null && previous != null) {
+            cache.remove(previous.getId());
+        }
+    }
+
+    private int occupancyBucket(double occupancy) {
+        List<Double> thresholds = properties.getOccupancyThresholds();
+        int bucket = 0;
+        while (bucket < thresholds.size() && occupancy >= thresholds.get(bucket)) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private int daysBucket(LocalDate departureDate) {
+        List<Integer> thresholds = properties.getDaysToDepartureThresholds();
+        if (departureDate == null) {
+            return thresholds.size();
+        }
+        long days = ChronoUnit.DAYS.between(LocalDate.now(), departureDate);
+        int bucket = 0;
+        while (bucket < thresholds.size() && days >= thresholds.get(bucket)) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private record CachedFare(int occupancyBucket, int daysBucket, double baseFare, double fare) {
+        boolean matches(int occupancyBucket, int daysBucket, double baseFare) {
+            return this.occupancyBucket == occupancyBucket
+                    && this.daysBucket == daysBucket
+                    && this.baseFare == baseFare;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.thejas.flight_service.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.dto.SeatAvailability;
+import com.thejas.flight_service.index.FlightChangeListener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pushes seat-count changes to Server-Sent Events subscribers. Changes only mark a
+ * watched flight dirty; a flush every 250 ms sends each dirty flight's
+ * latest count once, serialized once and written to all of its subscribers by a small
+ * pool, so a burst of bookings on a popular flight becomes one event per window.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityBroadcaster implements FlightChangeListener {
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final String EVENT_NAME = "availability";
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger fanOutThreads = new AtomicInteger();
+    private final ExecutorService fanOut = Executors.newFixedThreadPool(4, r -> {
+        Thread thread = new Thread(r, "seat-availability-" + fanOutThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Registers a subscriber and sends it the current count first. The subscription is
+     * registered before {@code snapshot} is read, so a change racing the subscribe is
+     * either in the snapshot or delivered after it.
+     */
+    public SseEmitter subscribe(Long flightId, Supplier<SeatAvailability> snapshot) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        Subscription subscription = subscriptions.compute(flightId, (id, existing) -> {
+            Subscription s = existing != null ? existing : new Subscription();
+            s.emitters.add(emitter);
+            return s;
+        });
+        emitter.onCompletion(() -> unsubscribe(flightId, emitter));
+        emitter.onTimeout(() -> unsubscribe(flightId, emitter));
+        emitter.onError(e -> unsubscribe(flightId, emitter));
+
+        SeatAvailability current;
+        try {
+            current = snapshot.get();
+        } catch (RuntimeException e) {
+            unsubscribe(flightId, emitter);
+            throw e;
+        }
+        subscription.latest.compareAndSet(null, current);
+        synchronized (subscription) {
+            send(emitter, serialize(subscription.latest.get()), flightId);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onFlightChanged(FlightSummary previous, FlightSummary current) {
+        FlightSummary flight = current != null ? current : previous;
+        if (flight == null || (previous != null && current != null
+                && previous.getAvailableSeats() == current.getAvailableSeats()
+                && Objects.equals(previous.getStatus(), current.getStatus()))) {
+            return;
+        }
+        Subscription subscription = subscriptions.get(flight.getId());
+        if (subscription == null) {
+            return;
+        }
+        // Runs under the index lock: record and mark only, never wait on a subscriber
+        subscription.latest.set(current != null ? SeatAvailability.from(current)
+                : new SeatAvailability(previous.getId(), 0, previous.getTotalSeats(), "DELETED"));
+        dirty.add(flight.getId());
+    }
+
+    @Scheduled(fixedDelay = 250)
+    public void flush() {
+        for (Long flightId : dirty) {
+            dirty.remove(flightId);
+            Subscription subscription = subscriptions.get(flightId);
+            if (subscription != null) {
+                fanOut.execute(() -> broadcast(flightId, subscription));
+            }
+        }
+    }
+
+    // Keeps proxies from closing idle streams and weeds out clients that went away
+    @Scheduled(fixedDelay = 15_000)
+    public void heartbeat() {
+        subscriptions.forEach((flightId, subscription) -> fanOut.execute(() -> {
+            for (SseEmitter emitter : subscription.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(flightId, emitter);
+                }
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+        subscriptions.values().forEach(s -> s.emitters.forEach(SseEmitter::complete));
+    }
+
+    private void broadcast(Long flightId, Subscription subscription) {
+        synchronized (subscription) {
+            SeatAvailability latest = subscription.latest.get();
+            String payload = serialize(latest);
+            for (SseEmitter emitter : subscription.emitters) {
+                send(emitter, payload, flightId);
+            }
+            if ("DELETED".equals(latest.getStatus())) {
+                subscription.emitters.forEach(SseEmitter::complete);
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, String payload, Long flightId) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(payload));
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(flightId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long flightId, SseEmitter emitter) {
+        subscriptions.computeIfPresent(flightId, (id, subscription) -> {
+            subscription.emitters.remove(emitter);
+            return subscription.emitters.isEmpty() ? null : subscription;
+        });
+    }
+
+    private String serialize(SeatAvailability availability) {
+        try {
+            return objectMapper.writeValueAsString(availability);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Sends to one flight's subscribers are serialized on the subscription, so the
+    // snapshot always reaches a new subscriber before any later broadcast
+    private static final class Subscription {
+        private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+        private final AtomicReference<SeatAvailability> latest = new AtomicReference<>();
+    }
+}
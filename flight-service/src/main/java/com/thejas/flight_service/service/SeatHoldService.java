@@ -0,0 +1,159 @@
+package com.thejas.flight_service.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.dto.SeatHoldRequest;
+import com.thejas.flight_service.entity.SeatHold;
+import com.thejas.flight_service.repository.SeatHoldRepository;
+import com.thejas.flight_service.util.HierarchicalTimingWheel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Seat holds: seats are taken from the flight when the hold is created and either kept
+ * on commit or returned on release or expiry. Expiry deadlines live in a timing wheel
+ * that is advanced every second, so only holds that actually come due are touched.
+ * Every status change is a conditional update, so commit, release and expiry racing
+ * each other (or another instance) return the seats at most once; seats picked on the
+ * seat map for a released or expired hold are freed with them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    private static final Duration MIN_TTL = Duration.ofSeconds(30);
+    private static final Duration MAX_TTL = Duration.ofMinutes(30);
+    private static final Duration EXPIRY_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final FlightService flightService;
+    private final SeatMapService seatMapService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final HierarchicalTimingWheel<Long> expiryWheel =
+            new HierarchicalTimingWheel<>(1000, 512, System.currentTimeMillis());
+    // Holds still waiting in the wheel; committed or released holds leave this set and
+    // their wheel entries are ignored when they come due
+    private final Set<Long> pendingHolds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleActiveHolds() {
+        List<SeatHold> active = seatHoldRepository.findByStatus(SeatHold.HELD);
+        for (SeatHold hold : active) {
+            track(hold);
+        }
+        log.info("Scheduled expiry for {} active seat holds", active.size());
+    }
+
+    public SeatHold createHold(SeatHoldRequest request, String owner) {
+        if (request.getFlightId() == null || request.getNumSeats() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "flightId and a positive numSeats are required");
+        }
+        Duration ttl = request.getTtlSeconds() == null ? DEFAULT_TTL : Duration.ofSeconds(request.getTtlSeconds());
+        if (ttl.compareTo(MIN_TTL) < 0 || ttl.compareTo(MAX_TTL) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "ttlSeconds must be between " + MIN_TTL.toSeconds() + " and " + MAX_TTL.toSeconds());
+        }
+
+        SeatHold hold = transactionTemplate.execute(status -> {
+            flightService.reduceSeats(request.getFlightId(), request.getNumSeats());
+            LocalDateTime now = LocalDateTime.now();
+            SeatHold newHold = new SeatHold();
+            newHold.setFlightId(request.getFlightId());
+            newHold.setNumSeats(request.getNumSeats());
+            newHold.setCreatedAt(now);
+            newHold.setExpiresAt(now.plus(ttl));
+            newHold.setOwner(owner);
+            return seatHoldRepository.save(newHold);
+        });
+        track(hold);
+        return hold;
+    }
+
+    public SeatHold getHold(Long holdId, Authentication caller) {
+        SeatHold hold = getHold(holdId);
+        SeatMapService.checkOwner(hold, caller);
+        return hold;
+    }
+
+    private SeatHold getHold(Long holdId) {
+        return seatHoldRepository.findById(holdId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Seat hold not found"));
+    }
+
+    /**
+     * Keeps the seats for good; called once the booking is paid, so only admins reach it.
+     */
+    public SeatHold commitHold(Long holdId) {
+        SeatHold hold = getHold(holdId);
+        if (seatHoldRepository.transition(holdId, List.of(SeatHold.HELD), SeatHold.COMMITTED) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold is " + getHold(holdId).getStatus());
+        }
+        pendingHolds.remove(holdId);
+        hold.setStatus(SeatHold.COMMITTED);
+        return hold;
+    }
+
+    /**
+     * Returns the seats of a held or committed hold to the flight. Releasing a hold that
+     * was already released or expired is a no-op.
+     */
+    public SeatHold releaseHold(Long holdId, Authentication caller) {
+        SeatHold hold = getHold(holdId);
+        SeatMapService.checkOwner(hold, caller);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (seatHoldRepository.transition(holdId, List.of(SeatHold.HELD, SeatHold.COMMITTED), SeatHold.RELEASED) == 1) {
+                flightService.restoreSeats(hold.getFlightId(), hold.getNumSeats());
+                seatMapService.releaseHoldSeats(seatHoldRepository.findById(holdId).orElseThrow());
+            }
+        });
+        pendingHolds.remove(holdId);
+        return getHold(holdId);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void expireDueHolds() {
+        long now = System.currentTimeMillis();
+        for (Long holdId : expiryWheel.advance(now)) {
+            if (!pendingHolds.remove(holdId)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (seatHoldRepository.transition(holdId, List.of(SeatHold.HELD), SeatHold.EXPIRED) == 1) {
+                        SeatHold hold = seatHoldRepository.findById(holdId).orElseThrow();
+                        flightService.restoreSeats(hold.getFlightId(), hold.getNumSeats());
+                        seatMapService.releaseHoldSeats(hold);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("Expiring seat hold {} failed, retrying in {}", holdId, EXPIRY_RETRY_DELAY, e);
+                pendingHolds.add(holdId);
+                expiryWheel.schedule(holdId, now + EXPIRY_RETRY_DELAY.toMillis());
+            }
+        }
+    }
+
+    private void track(SeatHold hold) {
+        pendingHolds.add(hold.getId());
+        long deadline = hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        expiryWheel.schedule(hold.getId(), deadline);
+    }
+}
@@ -0,0 +1,247 @@
+package com.thejas.flight_service.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.dto.CabinLayout;
+import com.thejas.flight_service.dto.CabinSeatMap;
+import com.thejas.flight_service.dto.SeatAssignment;
+import com.thejas.flight_service.dto.SeatAssignmentRequest;
+import com.thejas.flight_service.entity.SeatHold;
+import com.thejas.flight_service.entity.SeatMap;
+import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.repository.SeatHoldRepository;
+import com.thejas.flight_service.repository.SeatMapRepository;
+import com.thejas.flight_service.util.SeatGrid;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-seat assignment on top of the seat counts kept on {@code Flight}. Each cabin is one
+ * row holding its occupancy bitset; an assignment locks that row, does the seat search as
+ * bit operations on a {@link SeatGrid} and writes the bitset back. Seats are only picked
+ * against a {@link SeatHold}, which records them and gives them back when it lapses.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatMapService {
+
+    private final SeatMapRepository seatMapRepository;
+    private final FlightRepository flightRepository;
+    private final SeatHoldRepository seatHoldRepository;
+
+    @Transactional(readOnly = true)
+    public List<CabinSeatMap> getSeatMap(Long flightId) {
+        return seatMapRepository.findByFlightIdOrderByFirstRowAsc(flightId).stream()
+                .map(SeatMapService::toView)
+                .toList();
+    }
+
+    /**
+     * Creates or reshapes cabins. A cabin with assigned seats keeps its layout.
+     */
+    @Transactional
+    public List<CabinSeatMap> configureCabins(Long flightId, List<CabinLayout> cabins) {
+        if (!flightRepository.existsById(flightId)) {
+            throw new RuntimeException("Flight not found");
+        }
+        for (CabinLayout cabin : cabins) {
+            if (cabin.getCabin() == null || cabin.getCabin().isBlank()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cabin is required");
+            }
+            String name = cabin.getCabin().trim().toUpperCase();
+            translateSeatErrors(() -> new SeatGrid(cabin.getLayout(), cabin.getFirstRow(), cabin.getRowCount(), null));
+
+            SeatMap seatMap = seatMapRepository.findForUpdate(flightId, name).orElseGet(SeatMap::new);
+            if (seatMap.getId() != null && grid(seatMap).occupiedCount() > 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Cabin " + name + " has assigned seats");
+            }
+            seatMap.setFlightId(flightId);
+            seatMap.setCabin(name);
+            seatMap.setLayout(cabin.getLayout().trim());
+            seatMap.setFirstRow(cabin.getFirstRow());
+            seatMap.setRowCount(cabin.getRowCount());
+            seatMap.setOccupancy(new byte[0]);
+            seatMapRepository.save(seatMap);
+        }
+        return getSeatMap(flightId);
+    }
+
+    /**
+     * Assigns the requested seats, or picks {@code count} seats for a group: adjacent seats
+     * in one row if possible, otherwise one row across the aisle. Seats are picked for a
+     * live seat hold of the caller (any hold for an admin) and never more than it holds,
+     * so the seat map can not run ahead of the flight's seat count.
+     */
+    @Transactional
+    public SeatAssignment assignSeats(Long flightId, SeatAssignmentRequest request, Authentication caller) {
+        SeatHold hold = lockHold(request.getHoldId(), flightId, caller);
+        SeatMap seatMap = lockCabin(flightId, request.getCabin());
+        SeatGrid grid = grid(seatMap);
+        List<String> held = heldSeats(hold);
+        if (!held.isEmpty() && !seatMap.getCabin().equals(hold.getCabin())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold has seats in cabin " + hold.getCabin());
+        }
+
+        boolean explicit = request.getSeats() != null && !request.getSeats().isEmpty();
+        int count = explicit ? request.getSeats().size() : request.getCount() == null ? 0 : request.getCount();
+        if (count <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Either seats or a positive count is required");
+        }
+        if (held.size() + count > hold.getNumSeats()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold covers " + hold.getNumSeats()
+                    + " seats and " + held.size() + " are already assigned");
+        }
+
+        List<String> seats;
+        if (explicit) {
+            seats = request.getSeats();
+        } else {
+            seats = grid.findAdjacent(count);
+            if (seats.isEmpty()) {
+                seats = grid.findInOneRow(count);
+            }
+            if (seats.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "No " + count + " seats together in cabin " + seatMap.getCabin());
+            }
+        }
+
+        List<String> assigned = seats;
+        translateSeatErrors(() -> grid.occupy(assigned));
+        seatMap.setOccupancy(grid.toByteArray());
+        List<String> labels = assigned.stream().map(grid::canonical).toList();
+        held.addAll(labels);
+        setHeldSeats(hold, seatMap.getCabin(), held);
+        return new SeatAssignment(flightId, seatMap.getCabin(), labels);
+    }
+
+    /**
+     * Gives back seats picked for a seat hold, by its owner or an admin. Only an admin may
+     * free seats without naming a hold.
+     */
+    @Transactional
+    public SeatAssignment releaseSeats(Long flightId, SeatAssignmentRequest request, Authentication caller) {
+        if (request.getSeats() == null || request.getSeats().isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "seats are required");
+        }
+        if (request.getHoldId() == null && !isAdmin(caller)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "holdId is required");
+        }
+        SeatHold hold = request.getHoldId() == null ? null : lockHold(request.getHoldId(), flightId, caller);
+        SeatMap seatMap = lockCabin(flightId, request.getCabin());
+        SeatGrid grid = grid(seatMap);
+        List<String> labels = translateSeatErrors(() -> request.getSeats().stream().map(grid::canonical).toList());
+        if (hold != null) {
+            List<String> held = heldSeats(hold);
+            if (!seatMap.getCabin().equals(hold.getCabin()) || !held.containsAll(labels)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Seats are not assigned to seat hold " + hold.getId());
+            }
+            held.removeAll(labels);
+            setHeldSeats(hold, seatMap.getCabin(), held);
+        }
+        grid.release(labels);
+        seatMap.setOccupancy(grid.toByteArray());
+        return new SeatAssignment(flightId, seatMap.getCabin(), labels);
+    }
+
+    /**
+     * Frees the seats picked for a hold that was released or expired. Runs in the
+     * transaction that moved the hold out of its live states.
+     */
+    @Transactional
+    public void releaseHoldSeats(SeatHold hold) {
+        List<String> held = heldSeats(hold);
+        if (held.isEmpty()) {
+            return;
+        }
+        seatMapRepository.findForUpdate(hold.getFlightId(), hold.getCabin()).ifPresent(seatMap -> {
+            SeatGrid grid = grid(seatMap);
+            grid.release(held);
+            seatMap.setOccupancy(grid.toByteArray());
+        });
+    }
+
+    private SeatHold lockHold(Long holdId, Long flightId, Authentication caller) {
+        if (holdId == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "holdId is required");
+        }
+        SeatHold hold = seatHoldRepository.findForUpdate(holdId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Seat hold not found"));
+        if (!hold.getFlightId().equals(flightId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Seat hold is for another flight");
+        }
+        checkOwner(hold, caller);
+        if (!SeatHold.HELD.equals(hold.getStatus()) && !SeatHold.COMMITTED.equals(hold.getStatus())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Seat hold is " + hold.getStatus());
+        }
+        return hold;
+    }
+
+    /**
+     * Only the user who took the hold, or an admin, may see or change it.
+     */
+    static void checkOwner(SeatHold hold, Authentication caller) {
+        if (!isAdmin(caller) && (caller == null || !caller.getName().equals(hold.getOwner()))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Seat hold belongs to another user");
+        }
+    }
+
+    private static boolean isAdmin(Authentication caller) {
+        return caller != null && caller.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    private static List<String> heldSeats(SeatHold hold) {
+        return hold.getSeats() == null || hold.getSeats().isEmpty() ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(hold.getSeats().split(",")));
+    }
+
+    private static void setHeldSeats(SeatHold hold, String cabin, List<String> seats) {
+        hold.setCabin(seats.isEmpty() ? null : cabin);
+        hold.setSeats(seats.isEmpty() ? null : String.join(",", seats));
+    }
+
+    private SeatMap lockCabin(Long flightId, String cabin) {
+        if (cabin == null || cabin.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cabin is required");
+        }
+        return seatMapRepository.findForUpdate(flightId, cabin.trim().toUpperCase())
+                .orElseThrow(() -> new RuntimeException("Seat map not found"));
+    }
+
+    private static SeatGrid grid(SeatMap seatMap) {
+        return new SeatGrid(seatMap.getLayout(), seatMap.getFirstRow(), seatMap.getRowCount(), seatMap.getOccupancy());
+    }
+
+    private static CabinSeatMap toView(SeatMap seatMap) {
+        SeatGrid grid = grid(seatMap);
+        return new CabinSeatMap(seatMap.getCabin(), seatMap.getLayout(), seatMap.getFirstRow(), seatMap.getRowCount(),
+                grid.capacity(), grid.capacity() - grid.occupiedCount(), grid.occupiedSeats());
+    }
+
+    private static void translateSeatErrors(Runnable action) {
+        translateSeatErrors(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static <T> T translateSeatErrors(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+}
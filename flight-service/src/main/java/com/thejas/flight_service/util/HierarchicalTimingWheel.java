@@ -0,0 +1,120 @@
+package com.thejas.flight_service.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for large numbers of deadlines. Scheduling is O(1) and
+ * advancing the clock only touches the slots that come due, so expiring millions of
+ * items never needs a scan over all of them.
+ *
+ * <p>Time is counted in ticks. An item is due at the first tick boundary at or after its
+ * deadline, so it never fires early and at most one tick late. Level 0 has one slot per
+ * tick; each higher level's slot spans a whole revolution of the level below, and its
+ * items are cascaded down when the clock reaches that slot.
+ *
+ * <p>Items cannot be cancelled; callers ignore items that are no longer relevant when
+ * they come due.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<ArrayDeque<Entry<T>>[]> levels = new ArrayList<>();
+    private final List<T> due = new ArrayList<>();
+
+    /** All ticks before this one have been processed. */
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        levels.add(newLevel());
+    }
+
+    public synchronized void schedule(T item, long deadlineMillis) {
+        long dueTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(new Entry<>(item, dueTick));
+        size++;
+    }
+
+    /**
+     * Moves the clock to {@code nowMillis} and returns every item whose deadline has passed.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick <= targetTick) {
+            // Higher levels first so cascaded items can land in the slot processed below
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                long granularity = granularity(level);
+                if (currentTick % granularity == 0) {
+                    ArrayDeque<Entry<T>> slot = levels.get(level)[slotIndex(currentTick / granularity)];
+                    Entry<T> entry;
+                    while ((entry = slot.poll()) != null) {
+                        place(entry);
+                    }
+                }
+            }
+            ArrayDeque<Entry<T>> slot = levels.get(0)[slotIndex(currentTick)];
+            Entry<T> entry;
+            while ((entry = slot.poll()) != null) {
+                due.add(entry.item);
+            }
+            currentTick++;
+        }
+        List<T> expired = new ArrayList<>(due);
+        due.clear();
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry<T> entry) {
+        if (entry.dueTick < currentTick) {
+            due.add(entry.item);
+            return;
+        }
+        int level = 0;
+        // A level can hold the entry while its slot lies within one revolution ahead
+        while (entry.dueTick / granularity(level) - currentTick / granularity(level) >= wheelSize) {
+            level++;
+            if (level == levels.size()) {
+                levels.add(newLevel());
+            }
+        }
+        levels.get(level)[slotIndex(entry.dueTick / granularity(level))].add(entry);
+    }
+
+    private long granularity(int level) {
+        long granularity = 1;
+        for (int i = 0; i < level; i++) {
+            granularity *= wheelSize;
+        }
+        return granularity;
+    }
+
+    private int slotIndex(long virtualTick) {
+        return (int) Math.floorMod(virtualTick, (long) wheelSize);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ArrayDeque<Entry<T>>[] newLevel() {
+        ArrayDeque<Entry<T>>[] slots = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        return slots;
+    }
+
+    private record Entry<T>(T item, long dueTick) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.thejas.flight_service.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Occupancy of one cabin as a bitset: bit {@code row * seatsPerRow + position} is set when
+ * that seat is taken. The layout names the seat letters of a row from left to right with a
+ * space for each aisle, e.g. {@code "ABC DEF"}. A row has at most 64 seats, so its
+ * occupancy fits in a {@code long} and finding adjacent free seats is a handful of shifts.
+ */
+public class SeatGrid {
+
+    private static final int MAX_SEATS_PER_ROW = Long.SIZE;
+
+    private final int firstRow;
+    private final int rowCount;
+    private final String letters;
+    /** Bit p is set when no aisle separates seat p from seat p + 1. */
+    private final long joinedToNext;
+    private final long rowMask;
+    private final BitSet occupied;
+
+    public SeatGrid(String layout, int firstRow, int rowCount, byte[] occupancy) {
+        if (layout == null || layout.isBlank() || rowCount <= 0 || firstRow < 0) {
+            throw new IllegalArgumentException("A layout, a non-negative first row and a positive row count are required");
+        }
+        StringBuilder seatLetters = new StringBuilder();
+        long joined = 0;
+        String trimmed = layout.trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            if (c < 'A' || c > 'Z' || seatLetters.indexOf(String.valueOf(c)) >= 0) {
+                throw new IllegalArgumentException("Layout must use distinct letters A-Z: " + layout);
+            }
+            if (seatLetters.length() > 0 && trimmed.charAt(i - 1) != ' ') {
+                joined |= 1L << (seatLetters.length() - 1);
+            }
+            seatLetters.append(c);
+        }
+        this.firstRow = firstRow;
+        this.rowCount = rowCount;
+        this.letters = seatLetters.toString();
+        this.joinedToNext = joined;
+        this.rowMask = runMask(0, letters.length());
+        this.occupied = occupancy == null ? new BitSet(capacity()) : BitSet.valueOf(occupancy);
+    }
+
+    public int capacity() {
+        return rowCount * letters.length();
+    }
+
+    public int occupiedCount() {
+        return occupied.cardinality();
+    }
+
+    /**
+     * The seat's label as this grid prints it, e.g. {@code " 012a"} becomes {@code "12A"}.
+     */
+    public String canonical(String seat) {
+        int index = indexOf(seat);
+        return label(index / letters.length(), index % letters.length());
+    }
+
+    public boolean isOccupied(String seat) {
+        return occupied.get(indexOf(seat));
+    }
+
+    /**
+     * Marks all given seats as taken, or none of them if any is already taken.
+     */
+    public void occupy(Collection<String> seats) {
+        BitSet requested = new BitSet(capacity());
+        for (String seat : seats) {
+            int index = indexOf(seat);
+            if (occupied.get(index) || requested.get(index)) {
+                throw new IllegalStateException("Seat " + seat + " is not available");
+            }
+            requested.set(index);
+        }
+        occupied.or(requested);
+    }
+
+    public void release(Collection<String> seats) {
+        for (String seat : seats) {
+            occupied.clear(indexOf(seat));
+        }
+    }
+
+    /**
+     * First run of {@code count} free seats next to each other in one row without an aisle
+     * in between, scanning from the front; empty if there is none.
+     */
+    public List<String> findAdjacent(int count) {
+        if (count <= 0 || count > letters.length()) {
+            return List.of();
+        }
+        for (int row = 0; row < rowCount; row++) {
+            long free = freeSeats(row);
+            // Bit p survives when seats p .. p + count - 1 are free and not split by an aisle
+            long starts = free;
+            for (int i = 1; i < count; i++) {
+                starts &= (free >>> i) & (joinedToNext >>> (i - 1));
+            }
+            if (starts != 0) {
+                return seatsOf(row, runMask(Long.numberOfTrailingZeros(starts), count));
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * First row with {@code count} free seats, letting the group span an aisle;
+     * empty if there is none.
+     */
+    public List<String> findInOneRow(int count) {
+        if (count <= 0 || count > letters.length()) {
+            return List.of();
+        }
+        for (int row = 0; row < rowCount; row++) {
+            long free = freeSeats(row);
+            if (Long.bitCount(free) >= count) {
+                long picked = 0;
+                for (int i = 0; i < count; i++) {
+                    long lowest = Long.lowestOneBit(free);
+                    picked |= lowest;
+                    free &= ~lowest;
+                }
+                return seatsOf(row, picked);
+            }
+        }
+        return List.of();
+    }
+
+    public List<String> occupiedSeats() {
+        List<String> seats = new ArrayList<>(occupied.cardinality());
+        for (int index = occupied.nextSetBit(0); index >= 0; index = occupied.nextSetBit(index + 1)) {
+            seats.add(label(index / letters.length(), index % letters.length()));
+        }
+        return seats;
+    }
+
+    public byte[] toByteArray() {
+        return occupied.toByteArray();
+    }
+
+    private long freeSeats(int row) {
+        int from = row * letters.length();
+        long[] words = occupied.get(from, from + letters.length()).toLongArray();
+        return ~(words.length == 0 ? 0L : words[0]) & rowMask;
+    }
+
+    private static long runMask(int start, int length) {
+        if (length > MAX_SEATS_PER_ROW) {
+            throw new IllegalArgumentException("A row can have at most " + MAX_SEATS_PER_ROW + " seats");
+        }
+        return (length == MAX_SEATS_PER_ROW ? -1L : (1L << length) - 1) << start;
+    }
+
+    private List<String> seatsOf(int row, long positions) {
+        List<String> seats = new ArrayList<>(Long.bitCount(positions));
+        for (long bits = positions; bits != 0; bits &= bits - 1) {
+            seats.add(label(row, Long.numberOfTrailingZeros(bits)));
+        }
+        return seats;
+    }
+
+    private String label(int row, int position) {
+        return (firstRow + row) + String.valueOf(letters.charAt(position));
+    }
+
+    private int indexOf(String seat) {
+        String normalized = seat == null ? "" : seat.trim().toUpperCase();
+        if (normalized.length() < 2) {
+            throw new IllegalArgumentException("Invalid seat: " + seat);
+        }
+        int position = letters.indexOf(normalized.charAt(normalized.length() - 1));
+        int row;
+        try {
+            row = Integer.parseInt(normalized.substring(0, normalized.length() - 1)) - firstRow;
+        } catch (NumberFormatException e) {
+            row = -1;
+        }
+        if (position < 0 || row < 0 || row >= rowCount) {
+            throw new IllegalArgumentException("Invalid seat: " + seat);
+        }
+        return row * letters.length() + position;
+    }
+}
@@ -0,0 +1,145 @@
+package com.thejas.flight_service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.service.FlightService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hammers {@link FlightService#reduceSeats} from many threads and checks that no
+ * decrement is lost and no flight is oversold. Runs against the configured database.
+ */
+@Slf4j
+@SpringBootTest
+class FlightSeatConcurrencyTests {
+
+	private static final int THREADS = 64;
+
+	@Autowired
+	private FlightService flightService;
+
+	@Autowired
+	private FlightRepository flightRepository;
+
+	private final List<Long> createdFlightIds = new ArrayList<>();
+
+	@AfterEach
+	void cleanUp() {
+		createdFlightIds.forEach(flightService::deleteFlight);
+	}
+
+	@Test
+	void parallelBookingsNeverOversell() throws Exception {
+		int seats = 1000;
+		int requests = 5000;
+		Flight flight = createFlight("BENCH-1", seats);
+
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		long elapsed = run(requests, i -> {
+			try {
+				flightService.reduceSeats(flight.getId(), 1);
+				succeeded.incrementAndGet();
+			} catch (RuntimeException e) {
+				rejected.incrementAndGet();
+			}
+		});
+
+		Flight reloaded = flightRepository.findById(flight.getId()).orElseThrow();
+		assertEquals(seats, succeeded.get());
+		assertEquals(requests - seats, rejected.get());
+		assertEquals(0, reloaded.getAvailableSeats());
+		log.info("reduceSeats: {} requests on one flight in {} ms ({} req/s)",
+				requests, elapsed, requests * 1000L / Math.max(elapsed, 1));
+	}
+
+	@Test
+	void bookingsAndCancellationsAcrossFlightsKeepExactCounts() throws Exception {
+		int flights = 20;
+		int seats = 500;
+		int requests = 4000;
+		List<Flight> created = new ArrayList<>();
+		for (int i = 0; i < flights; i++) {
+			created.add(createFlight("BENCH-M" + i, seats));
+		}
+
+		// Every flight gets the same number of bookings; every fourth booking per
+		// flight is immediately cancelled again, restoring its seats.
+		long elapsed = run(requests, i -> {
+			Flight flight = created.get(i % flights);
+			flightService.reduceSeats(flight.getId(), 2);
+			if ((i / flights) % 4 == 3) {
+				flightService.restoreSeats(flight.getId(), 2);
+			}
+		});
+
+		int perFlight = requests / flights;
+		int expected = seats - perFlight * 2 + (perFlight / 4) * 2;
+		for (Flight flight : created) {
+			assertEquals(expected, flightRepository.findById(flight.getId()).orElseThrow().getAvailableSeats());
+		}
+		log.info("reduceSeats: {} requests over {} flights in {} ms ({} req/s)",
+				requests, flights, elapsed, requests * 1000L / Math.max(elapsed, 1));
+	}
+
+	private Flight createFlight(String flightNumber, int seats) {
+		Flight flight = new Flight();
+		flight.setFlightNumber(flightNumber);
+		flight.setAirline("BENCH");
+		flight.setSource("AAA");
+		flight.setDestination("BBB");
+		flight.setDepartureDate(LocalDate.now().plusDays(30));
+		flight.setDepartureTime("10:00");
+		flight.setAvailableSeats(seats);
+		flight.setPrice(100.0);
+		Flight saved = flightService.createFlight(flight);
+		createdFlightIds.add(saved.getId());
+		return saved;
+	}
+
+	private long run(int requests, IndexedTask task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < requests; i++) {
+			int index = i;
+			futures.add(pool.submit(() -> {
+				start.await();
+				task.run(index);
+				return null;
+			}));
+		}
+		long begin = System.currentTimeMillis();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsed = System.currentTimeMillis() - begin;
+		pool.shutdown();
+		pool.awaitTermination(1, TimeUnit.MINUTES);
+		return elapsed;
+	}
+
+	@FunctionalInterface
+	private interface IndexedTask {
+		void run(int index);
+	}
+}
@@ -0,0 +1,53 @@
+package com.thejas.flight_service;
+
+import java.time.LocalDateTime;
+
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.entity.Flight;
+
+/**
+ * Flight fixtures shared by the unit tests: one fully populated flight, varied by id,
+ * price and departure where a test needs several of them.
+ */
+public final class TestFlights {
+
+	public static final LocalDateTime DEPARTURE = LocalDateTime.of(2026, 12, 1, 6, 40);
+	public static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_000);
+
+	private TestFlights() {
+	}
+
+	/**
+	 * AI101, Delhi to Mumbai at {@link #DEPARTURE}, 120 of 180 seats left, version 4.
+	 */
+	public static Flight flight() {
+		return flight(1, 5499.5, DEPARTURE);
+	}
+
+	/**
+	 * A two-hour Delhi to Mumbai flight numbered after its id; a null departure leaves
+	 * every departure field unset.
+	 */
+	public static Flight flight(long id, double price, LocalDateTime departure) {
+		Flight flight = new Flight();
+		flight.setId(id);
+		flight.setFlightNumber("AI" + (100 + id));
+		flight.setAirline("Air India");
+		flight.setSource("DEL");
+		flight.setDestination("BOM");
+		flight.setDepartureDateTime(departure);
+		flight.normalizeDepartureDateTime();
+		flight.setArrivalDateTime(departure == null ? null : departure.plusHours(2));
+		flight.setAvailableSeats(120);
+		flight.setTotalSeats(180);
+		flight.setPrice(price);
+		flight.setStatus("ACTIVE");
+		flight.setVersion(4L);
+		flight.setUpdatedAt(UPDATED_AT);
+		return flight;
+	}
+
+	public static FlightSummary summary(long id, double price, LocalDateTime departure) {
+		return FlightSummary.from(flight(id, price, departure));
+	}
+}
@@ -0,0 +1,104 @@
+package com.thejas.flight_service.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.junit.jupiter.api.Test;
+
+class LocalCacheStorageTests {
+
+	private static final long TTL = TimeUnit.SECONDS.toNanos(10);
+	private static final long LOCK_TTL = TimeUnit.SECONDS.toNanos(60);
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private LocalCacheStorage storage(int maxEntries) {
+		return new LocalCacheStorage("test", maxEntries, TTL, LOCK_TTL, clock::get);
+	}
+
+	@Test
+	void evictsTheLeastRecentlyUsedEntry() {
+		LocalCacheStorage storage = storage(2);
+		storage.putIntoCache(1, "one", null);
+		storage.putIntoCache(2, "two", null);
+		storage.getFromCache(1, null);
+		storage.putIntoCache(3, "three", null);
+
+		assertTrue(storage.contains(1));
+		assertFalse(storage.contains(2));
+		assertTrue(storage.contains(3));
+		assertEquals(1, storage.statistics().getEvictions());
+	}
+
+	@Test
+	void expiresEntriesAfterTheirTtl() {
+		LocalCacheStorage storage = storage(0);
+		storage.putIntoCache(1, "one", null);
+
+		clock.addAndGet(TTL);
+		assertEquals("one", storage.getFromCache(1, null));
+		clock.addAndGet(1);
+		assertNull(storage.getFromCache(1, null));
+	}
+
+	@Test
+	void keepsSoftLocksWhenTheRegionIsFull() {
+		LocalCacheStorage storage = storage(3);
+		SoftLock lock = new SoftLock() { };
+		storage.putIntoCache("locked", lock, null);
+		for (int i = 0; i < 100; i++) {
+			storage.putIntoCache(i, "row " + i, null);
+		}
+
+		assertSame(lock, storage.getFromCache("locked", null));
+		assertEquals(3, storage.statistics().getSize());
+		assertTrue(storage.contains(99));
+		assertTrue(storage.contains(98));
+		assertFalse(storage.contains(97));
+	}
+
+	@Test
+	void keepsSoftLocksPastTheTtlUntilTheLockTimesOut() {
+		LocalCacheStorage storage = storage(0);
+		SoftLock lock = new SoftLock() { };
+		storage.putIntoCache("locked", lock, null);
+
+		clock.addAndGet(LOCK_TTL - 1);
+		assertSame(lock, storage.getFromCache("locked", null));
+		clock.addAndGet(1);
+		assertNull(storage.getFromCache("locked", null));
+	}
+
+	@Test
+	void rewritingALockPinsItAgain() {
+		LocalCacheStorage storage = storage(1);
+		SoftLock lock = new SoftLock() { };
+		storage.putIntoCache("locked", lock, null);
+		clock.addAndGet(LOCK_TTL - 1);
+		// Unlocking writes the released lock back, which guards readers that started before the commit
+		storage.putIntoCache("locked", lock, null);
+		clock.addAndGet(LOCK_TTL - 1);
+		storage.putIntoCache(1, "one", null);
+
+		assertSame(lock, storage.getFromCache("locked", null));
+		assertFalse(storage.contains(1));
+	}
+
+	@Test
+	void evictsTimedOutLocksLikeAnyOtherEntry() {
+		LocalCacheStorage storage = storage(1);
+		storage.putIntoCache("locked", new SoftLock() { }, null);
+		clock.addAndGet(LOCK_TTL);
+		storage.putIntoCache(1, "one", null);
+
+		assertFalse(storage.contains("locked"));
+		assertTrue(storage.contains(1));
+	}
+}
@@ -0,0 +1,18 @@
+package com.thejas.flight_service.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+
+/**
+ * Hands the package-private cache storage to tests in other packages.
+ */
+public final class LocalCacheTestSupport {
+
+	private LocalCacheTestSupport() {
+	}
+
+	public static DomainDataStorageAccess storage(int maxEntries) {
+		return new LocalCacheStorage("test", maxEntries, 0, TimeUnit.SECONDS.toNanos(60));
+	}
+}
@@ -0,0 +1,82 @@
+package com.thejas.flight_service.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.config.SecurityConfig;
+import com.thejas.flight_service.entity.SeatHold;
+import com.thejas.flight_service.service.SeatHoldService;
+import com.thejas.flight_service.util.JwtUtil;
+
+@WebMvcTest(SeatHoldController.class)
+@Import(SecurityConfig.class)
+class SeatHoldControllerTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private SeatHoldService seatHoldService;
+
+	@MockitoBean
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void tokens() {
+		when(jwtUtil.validateToken(any())).thenReturn(true);
+		when(jwtUtil.extractUsername("user")).thenReturn("alice");
+		when(jwtUtil.extractRole("user")).thenReturn("USER");
+		when(jwtUtil.extractUsername("admin")).thenReturn("ops");
+		when(jwtUtil.extractRole("admin")).thenReturn("ADMIN");
+	}
+
+	@Test
+	void onlyAdminsCommitHolds() throws Exception {
+		when(seatHoldService.commitHold(7L)).thenReturn(new SeatHold());
+
+		mvc.perform(post("/api/flights/holds/7/commit").header("Authorization", "Bearer user"))
+				.andExpect(status().isForbidden());
+		verify(seatHoldService, never()).commitHold(anyLong());
+
+		mvc.perform(post("/api/flights/holds/7/commit").header("Authorization", "Bearer admin"))
+				.andExpect(status().isOk());
+		verify(seatHoldService).commitHold(7L);
+	}
+
+	@Test
+	void passesTheCallerToReadsAndReleases() throws Exception {
+		when(seatHoldService.getHold(eq(7L), any(Authentication.class)))
+				.thenThrow(new ResponseStatusException(HttpStatus.FORBIDDEN, "Seat hold belongs to another user"));
+		when(seatHoldService.releaseHold(eq(7L), any(Authentication.class)))
+				.thenThrow(new ResponseStatusException(HttpStatus.FORBIDDEN, "Seat hold belongs to another user"));
+
+		mvc.perform(get("/api/flights/holds/7").header("Authorization", "Bearer user"))
+				.andExpect(status().isForbidden());
+		mvc.perform(delete("/api/flights/holds/7").header("Authorization", "Bearer user"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void requiresATokenForHolds() throws Exception {
+		mvc.perform(get("/api/flights/holds/7")).andExpect(status().isForbidden());
+	}
+}
@@ -0,0 +1,81 @@
+package com.thejas.flight_service.dto;
+
+import static com.thejas.flight_service.TestFlights.DEPARTURE;
+import static com.thejas.flight_service.TestFlights.flight;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.thejas.flight_service.entity.Flight;
+
+class FlightPatchTests {
+
+	@Test
+	void leavesUnsetFieldsAlone() {
+		Flight flight = flight();
+		FlightPatch patch = new FlightPatch();
+		patch.setPrice(4999.0);
+		patch.setAvailableSeats(0);
+		patch.setVersion(9L);
+
+		patch.applyTo(flight);
+
+		Flight expected = flight();
+		expected.setPrice(4999.0);
+		expected.setAvailableSeats(0);
+		// The version is a precondition, not a new value
+		assertEquals(expected, flight);
+	}
+
+	@Test
+	void changesEveryFieldItCarries() {
+		Flight flight = flight();
+		FlightPatch patch = new FlightPatch();
+		patch.setFlightNumber("AI102");
+		patch.setAirline("Vistara");
+		patch.setSource("BLR");
+		patch.setDestination("HYD");
+		patch.setArrivalDateTime(DEPARTURE.plusHours(3));
+		patch.setTotalSeats(200);
+		patch.setStatus("DELAYED");
+
+		patch.applyTo(flight);
+
+		assertEquals("AI102", flight.getFlightNumber());
+		assertEquals("Vistara", flight.getAirline());
+		assertEquals("BLR", flight.getSource());
+		assertEquals("HYD", flight.getDestination());
+		assertEquals(DEPARTURE.plusHours(3), flight.getArrivalDateTime());
+		assertEquals(200, flight.getTotalSeats());
+		assertEquals("DELAYED", flight.getStatus());
+		assertEquals(DEPARTURE, flight.getDepartureDateTime());
+	}
+
+	@Test
+	void movesTheLegacyDepartureFieldsWithANewDateTime() {
+		Flight flight = flight();
+		FlightPatch patch = new FlightPatch();
+		patch.setDepartureDateTime(LocalDateTime.of(2026, 12, 5, 21, 15));
+
+		patch.applyTo(flight);
+		flight.normalizeDepartureDateTime();
+
+		assertEquals(LocalDateTime.of(2026, 12, 5, 21, 15), flight.getDepartureDateTime());
+		assertEquals(LocalDate.of(2026, 12, 5), flight.getDepartureDate());
+	}
+
+	@Test
+	void combinesAPatchedDateWithTheCurrentTime() {
+		Flight flight = flight();
+		FlightPatch patch = new FlightPatch();
+		patch.setDepartureDate(LocalDate.of(2026, 12, 3));
+
+		patch.applyTo(flight);
+		flight.normalizeDepartureDateTime();
+
+		assertEquals(LocalDateTime.of(2026, 12, 3, 6, 40), flight.getDepartureDateTime());
+	}
+}
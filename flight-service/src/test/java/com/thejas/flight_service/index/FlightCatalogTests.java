@@ -0,0 +1,100 @@
+package com.thejas.flight_service.index;
+
+import static com.thejas.flight_service.TestFlights.summary;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.entity.Flight;
+
+class FlightCatalogTests {
+
+	private static final FlightCatalog.Filter ANY = new FlightCatalog.Filter(null, null, null, null, null, null, null);
+	private static final LocalDateTime NOON = LocalDateTime.of(2026, 11, 3, 12, 0);
+
+	private final FlightCatalog catalog = new FlightCatalog();
+
+	private void add(FlightSummary... flights) {
+		for (FlightSummary flight : flights) {
+			catalog.onFlightChanged(null, flight);
+		}
+	}
+
+	private static List<Long> ids(List<Flight> flights) {
+		return flights.stream().map(Flight::getId).toList();
+	}
+
+	@Test
+	void pagesByPriceWithTheIdBreakingTies() {
+		add(summary(1, 300, NOON), summary(2, 100, NOON), summary(3, 200, NOON), summary(4, 100, NOON));
+
+		List<Flight> first = catalog.find(ANY, "price", true, null, null, 2);
+		assertEquals(List.of(2L, 4L), ids(first));
+
+		Flight last = first.get(1);
+		List<Flight> second = catalog.find(ANY, "price", true, last.getPrice(), last.getId(), 2);
+		assertEquals(List.of(3L, 1L), ids(second));
+
+		assertEquals(List.of(1L, 3L, 4L, 2L), ids(catalog.find(ANY, "price", false, null, null, 10)));
+	}
+
+	@Test
+	void sortsMissingDeparturesLastAscendingAndFirstDescending() {
+		add(summary(1, 100, NOON.plusHours(1)), summary(2, 100, null), summary(3, 100, NOON), summary(4, 100, null));
+
+		assertEquals(List.of(3L, 1L, 2L, 4L), ids(catalog.find(ANY, "departureDateTime", true, null, null, 10)));
+		assertEquals(List.of(4L, 2L, 1L, 3L), ids(catalog.find(ANY, "departureDateTime", false, null, null, 10)));
+	}
+
+	@Test
+	void continuesPastACursorOnAMissingDeparture() {
+		add(summary(1, 100, NOON), summary(2, 100, null), summary(3, 100, null));
+
+		assertEquals(List.of(3L), ids(catalog.find(ANY, "departureDateTime", true, null, 2L, 10)));
+		assertEquals(List.of(2L, 1L), ids(catalog.find(ANY, "departureDateTime", false, null, 3L, 10)));
+		assertEquals(List.of(2L, 3L), ids(catalog.find(ANY, "departureDateTime", true, NOON, 1L, 10)));
+	}
+
+	@Test
+	void filtersOnSubstringsStatusAndAnExclusiveDepartureRange() {
+		add(summary(1, 100, NOON), summary(2, 100, NOON.plusHours(1)), summary(3, 100, NOON.plusHours(2)));
+		catalog.onFlightChanged(null, summary(4, 100, NOON.plusHours(1)).withStatus("CANCELLED"));
+
+		FlightCatalog.Filter window = new FlightCatalog.Filter(null, "India", "DE", null, "ACTIVE",
+				NOON, NOON.plusHours(2));
+		assertEquals(List.of(2L), ids(catalog.find(window, "id", true, null, null, 10)));
+
+		FlightCatalog.Filter unknownStatus = new FlightCatalog.Filter(null, null, null, null, "DELAYED", null, null);
+		assertEquals(List.of(), catalog.find(unknownStatus, "id", true, null, null, 10));
+	}
+
+	@Test
+	void returnsFlightsThatCanBeWrittenBack() {
+		FlightSummary summary = summary(7, 120.5, NOON);
+		add(summary);
+
+		Flight flight = catalog.find(ANY, "id", true, null, null, 1).get(0);
+		assertEquals(4L, flight.getVersion());
+		assertEquals(summary.getUpdatedAt(), flight.getUpdatedAt());
+		assertEquals(NOON, flight.getDepartureDateTime());
+		assertEquals(LocalDate.of(2026, 11, 3), flight.getDepartureDate());
+	}
+
+	@Test
+	void reusesTheRowsOfRemovedFlights() {
+		FlightSummary removed = summary(1, 100, NOON);
+		add(removed, summary(2, 200, NOON));
+		catalog.onFlightChanged(removed, null);
+		add(summary(3, 50, null));
+
+		assertEquals(List.of(3L, 2L), ids(catalog.find(ANY, "price", true, null, null, 10)));
+		assertNull(catalog.find(ANY, "price", true, null, null, 1).get(0).getDepartureDateTime());
+		assertEquals(2, catalog.statistics().getTotalFlights());
+	}
+}
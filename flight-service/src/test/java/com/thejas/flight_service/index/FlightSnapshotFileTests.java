@@ -0,0 +1,137 @@
+package com.thejas.flight_service.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.thejas.flight_service.dto.FlightSummary;
+
+class FlightSnapshotFileTests {
+
+	private static final LocalDateTime SYNCED_AT = LocalDateTime.of(2026, 10, 17, 8, 15, 30);
+
+	@TempDir
+	Path directory;
+
+	private Path path() {
+		return directory.resolve("index").resolve("flights.snapshot");
+	}
+
+	private static List<FlightSummary> flights() {
+		LocalDateTime departure = LocalDateTime.of(2026, 12, 1, 6, 40);
+		return List.of(
+				new FlightSummary(1L, "AI101", "Air India", "DEL", "BOM", departure.toLocalDate(), departure,
+						departure.plusHours(2), 120, 180, 5499.5, "ACTIVE", 4L,
+						LocalDateTime.of(2026, 10, 16, 23, 59, 59, 999_999_000)),
+				new FlightSummary(2L, "6E202", "IndiGo", "BOM", "DEL", LocalDate.of(2026, 12, 2), null,
+						null, 0, 180, 3999.0, "CANCELLED", 0L, null),
+				new FlightSummary(Long.MAX_VALUE, null, null, "DEL", "BOM", null, null, null, 0, 0, 0.0, null,
+						null, null));
+	}
+
+	private static List<FlightSummary> read(FlightSnapshotFile file) {
+		List<FlightSummary> read = new ArrayList<>();
+		LocalDateTime syncedAt = file.read(read::add);
+		return syncedAt == null ? null : read;
+	}
+
+	@Test
+	void readsBackWhatItWrote() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+
+		List<FlightSummary> read = new ArrayList<>();
+		assertEquals(SYNCED_AT, file.read(read::add));
+		assertEquals(flights(), read);
+		try (var files = Files.list(path().getParent())) {
+			assertEquals(List.of(path()), files.toList());
+		}
+	}
+
+	@Test
+	void replacesThePreviousSnapshot() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+		file.write(SYNCED_AT.plusMinutes(5), flights().subList(0, 1));
+
+		List<FlightSummary> read = new ArrayList<>();
+		assertEquals(SYNCED_AT.plusMinutes(5), file.read(read::add));
+		assertEquals(flights().subList(0, 1), read);
+	}
+
+	@Test
+	void readsAnEmptySnapshot() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, List.of());
+
+		assertEquals(List.of(), read(file));
+	}
+
+	@Test
+	void ignoresAMissingFile() {
+		assertNull(read(new FlightSnapshotFile(path().toString())));
+	}
+
+	@Test
+	void ignoresAFlippedByte() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+		byte[] bytes = Files.readAllBytes(path());
+		// Inside the first record, after the 40-byte header
+		bytes[60] ^= 0x01;
+		Files.write(path(), bytes);
+
+		assertNull(read(file));
+	}
+
+	@Test
+	void ignoresATruncatedFile() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+		try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 10);
+		}
+		assertNull(read(file));
+
+		try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+			channel.truncate(12);
+		}
+		assertNull(read(file));
+	}
+
+	@Test
+	void ignoresAnotherFormatVersion() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+		try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).putInt(0, 1), 4);
+		}
+
+		assertNull(read(file));
+	}
+
+	@Test
+	void ignoresARecordCountThatDisagreesWithTheLayout() throws IOException {
+		FlightSnapshotFile file = new FlightSnapshotFile(path().toString());
+		file.write(SYNCED_AT, flights());
+		try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+			// Record count follows magic, version and sync time
+			channel.write(ByteBuffer.allocate(8).putLong(0, 2), 16);
+		}
+
+		assertNull(read(file));
+	}
+}
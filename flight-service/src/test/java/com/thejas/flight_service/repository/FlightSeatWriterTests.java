@@ -0,0 +1,165 @@
+package com.thejas.flight_service.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.EntityReadWriteAccess;
+import org.hibernate.cache.spi.support.SimpleTimestamper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.thejas.flight_service.config.LocalCacheTestSupport;
+import com.thejas.flight_service.entity.Flight;
+
+import jakarta.persistence.EntityManagerFactory;
+
+class FlightSeatWriterTests {
+
+	private static final Long ID = 1L;
+
+	private final AtomicLong clock = new AtomicLong(1_000);
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private EntityDataAccess cache;
+	private FlightSeatWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		RegionFactory regionFactory = mock(RegionFactory.class);
+		when(regionFactory.nextTimestamp()).thenAnswer(invocation -> clock.incrementAndGet());
+		when(regionFactory.getTimeout()).thenReturn(60_000L * SimpleTimestamper.ONE_MS);
+		DomainDataRegion region = mock(DomainDataRegion.class);
+		when(region.getRegionFactory()).thenReturn(regionFactory);
+		when(region.getName()).thenReturn("flight");
+		DomainDataStorageAccess storage = LocalCacheTestSupport.storage(1_000);
+		cache = new EntityReadWriteAccess(region, SimpleCacheKeysFactory.INSTANCE, storage,
+				mock(EntityDataCachingConfig.class));
+
+		EntityPersister persister = mock(EntityPersister.class);
+		when(persister.getCacheAccessStrategy()).thenReturn(cache);
+		MappingMetamodelImplementor metamodel = mock(MappingMetamodelImplementor.class);
+		when(metamodel.getEntityDescriptor(Flight.class)).thenReturn(persister);
+		SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+		when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+		when(sessionFactory.openTemporarySession()).thenReturn(mock(SessionImplementor.class));
+		EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+		when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+
+		writer = new FlightSeatWriter(jdbcTemplate, entityManagerFactory);
+		when(jdbcTemplate.update(anyString(), any(), eq(ID), any())).thenReturn(1);
+	}
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	// A session whose transaction started now, as a reader's would
+	private SharedSessionContractImplementor reader() {
+		CacheTransactionSynchronization synchronization = mock(CacheTransactionSynchronization.class);
+		when(synchronization.getCachingTimestamp()).thenReturn(clock.incrementAndGet());
+		SharedSessionContractImplementor session = mock(SharedSessionContractImplementor.class);
+		when(session.getCacheTransactionSynchronization()).thenReturn(synchronization);
+		return session;
+	}
+
+	private static void complete(int status) {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(status);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void refusesARowLoadedBeforeTheWriteCommitted() {
+		SharedSessionContractImplementor staleReader = reader();
+		// The reader misses and loads the row with 10 seats, then stalls before caching it
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertEquals(1, writer.decrementSeats(ID, 2));
+		assertFalse(cache.putFromLoad(reader(), ID, "8 seats, uncommitted", null));
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertFalse(cache.putFromLoad(staleReader, ID, "10 seats", null));
+		assertNull(cache.get(reader(), ID));
+
+		SharedSessionContractImplementor freshReader = reader();
+		assertTrue(cache.putFromLoad(freshReader, ID, "8 seats", null));
+		assertEquals("8 seats", cache.get(reader(), ID));
+	}
+
+	@Test
+	void replacesACachedRowWithTheLock() {
+		assertTrue(cache.putFromLoad(reader(), ID, "10 seats", null));
+
+		TransactionSynchronizationManager.initSynchronization();
+		writer.decrementSeats(ID, 2);
+
+		assertNull(cache.get(reader(), ID));
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+		assertNull(cache.get(reader(), ID));
+	}
+
+	@Test
+	void unlocksAfterARollback() {
+		TransactionSynchronizationManager.initSynchronization();
+		writer.decrementSeats(ID, 2);
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertTrue(cache.putFromLoad(reader(), ID, "10 seats", null));
+	}
+
+	@Test
+	void unlocksRightAwayOutsideATransaction() {
+		SharedSessionContractImplementor staleReader = reader();
+		writer.decrementSeats(ID, 2);
+
+		assertFalse(cache.putFromLoad(staleReader, ID, "10 seats", null));
+		assertTrue(cache.putFromLoad(reader(), ID, "8 seats", null));
+	}
+
+	@Test
+	void unlocksWhenTheUpdateFails() {
+		when(jdbcTemplate.update(anyString(), any(), eq(ID), any())).thenThrow(new QueryTimeoutException("timeout"));
+
+		assertThrows(QueryTimeoutException.class, () -> writer.decrementSeats(ID, 2));
+		assertTrue(cache.putFromLoad(reader(), ID, "10 seats", null));
+	}
+
+	@Test
+	void capsRestoredSeatsAtTheTotal() {
+		assertEquals(1, writer.incrementSeats(ID, 2));
+
+		verify(jdbcTemplate).update(contains("available_seats + ? <= total_seats"), eq(2), eq(ID), eq(2));
+	}
+}
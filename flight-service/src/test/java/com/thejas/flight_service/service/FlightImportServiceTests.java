@@ -0,0 +1,99 @@
+package com.thejas.flight_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejas.flight_service.dto.FlightImportJob;
+import com.thejas.flight_service.dto.FlightImportReport;
+
+class FlightImportServiceTests {
+
+	private final FlightService flightService = mock(FlightService.class);
+	private final FlightImportService service =
+			new FlightImportService(flightService, new ObjectMapper().findAndRegisterModules());
+
+	@AfterEach
+	void shutdown() {
+		service.shutdown();
+	}
+
+	private static InputStream body(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private FlightImportJob await(FlightImportJob job) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		return service.getJob(job.getJobId());
+	}
+
+	private static List<Long> errorLines(FlightImportReport report) {
+		return report.getErrors().stream().map(FlightImportReport.RowError::getLine).toList();
+	}
+
+	@Test
+	void importsCsvInTheBackgroundAndReportsBadRows() throws Exception {
+		FlightImportJob job = service.submitCsv(body("""
+				flightNumber,airline,source,destination,departureDate,departureTime,availableSeats,price
+				AI101,Air India,DEL,BOM,2026-12-01,06:40,120,5499.5
+				AI102,Air India,DEL,DEL,2026-12-01,07:40,120,5499.5
+
+				AI103,"Air India, Ltd",BOM,DEL,2026-12-01,not a time,120,5499.5
+				AI104,Air India,BOM,DEL,someday,08:40,120,5499.5
+				"""));
+
+		FlightImportJob done = await(job);
+		assertEquals("COMPLETED", done.getStatus());
+		FlightImportReport report = done.getReport();
+		assertEquals("csv", report.getFormat());
+		assertEquals(4, report.getRowsRead());
+		assertEquals(1, report.getImportedRows());
+		assertEquals(3, report.getRejectedRows());
+		assertEquals(List.of(3L, 5L, 6L), errorLines(report));
+		verify(flightService).createFlights(anyList());
+	}
+
+	@Test
+	void rejectsACsvWithoutTheRequiredColumnsUpFront() {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class,
+				() -> service.submitCsv(body("flightNumber,airline\nAI101,Air India\n")));
+
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+		verifyNoInteractions(flightService);
+	}
+
+	@Test
+	void reportsEveryRowOfAFailedChunk() throws Exception {
+		when(flightService.createFlights(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+		FlightImportJob job = service.submitNdjson(body("""
+				{"flightNumber":"AI101","airline":"Air India","source":"DEL","destination":"BOM","departureDate":"2026-12-01","departureTime":"06:40","availableSeats":120,"price":10}
+				{not json}
+				{"flightNumber":"AI102","airline":"Air India","source":"DEL","destination":"BOM","departureDate":"2026-12-01","departureTime":"07:40","availableSeats":120,"price":10}
+				"""));
+
+		FlightImportReport report = await(job).getReport();
+		assertEquals(3, report.getRowsRead());
+		assertEquals(0, report.getImportedRows());
+		assertEquals(List.of(2L, 1L, 3L), errorLines(report));
+	}
+}
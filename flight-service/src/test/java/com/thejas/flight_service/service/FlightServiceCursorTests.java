@@ -0,0 +1,70 @@
+package com.thejas.flight_service.service;
+
+import static com.thejas.flight_service.TestFlights.flight;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.entity.Flight;
+
+class FlightServiceCursorTests {
+
+	@Test
+	void roundTripsEachSortField() {
+		LocalDateTime departure = LocalDateTime.of(2026, 11, 3, 7, 45);
+		Flight last = flight(42, 149.99, departure);
+
+		String byPrice = FlightService.encodeCursor("price", Sort.Direction.ASC, last);
+		assertEquals(new FlightService.Cursor(149.99, 42L),
+				FlightService.decodeCursor(byPrice, "price", Sort.Direction.ASC, Double::valueOf));
+
+		String byDeparture = FlightService.encodeCursor("departureDateTime", Sort.Direction.DESC, last);
+		assertEquals(new FlightService.Cursor(departure, 42L),
+				FlightService.decodeCursor(byDeparture, "departureDateTime", Sort.Direction.DESC, LocalDateTime::parse));
+
+		String byId = FlightService.encodeCursor("id", Sort.Direction.ASC, last);
+		assertEquals(new FlightService.Cursor(42L, 42L),
+				FlightService.decodeCursor(byId, "id", Sort.Direction.ASC, Long::valueOf));
+	}
+
+	@Test
+	void keepsAMissingSortValue() {
+		String cursor = FlightService.encodeCursor("departureDateTime", Sort.Direction.ASC, flight(5, 10, null));
+
+		FlightService.Cursor decoded = FlightService.decodeCursor(cursor, "departureDateTime", Sort.Direction.ASC,
+				LocalDateTime::parse);
+		assertNull(decoded.sortValue());
+		assertEquals(5L, decoded.lastId());
+	}
+
+	@Test
+	void rejectsACursorForAnotherSort() {
+		String cursor = FlightService.encodeCursor("price", Sort.Direction.ASC, flight(1, 10, null));
+
+		assertBadRequest(() -> FlightService.decodeCursor(cursor, "price", Sort.Direction.DESC, Double::valueOf));
+		assertBadRequest(() -> FlightService.decodeCursor(cursor, "id", Sort.Direction.ASC, Long::valueOf));
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		assertBadRequest(() -> FlightService.decodeCursor("not base64!", "id", Sort.Direction.ASC, Long::valueOf));
+		String tooShort = Base64.getUrlEncoder().encodeToString("id|ASC|1".getBytes());
+		assertBadRequest(() -> FlightService.decodeCursor(tooShort, "id", Sort.Direction.ASC, Long::valueOf));
+		String badDate = Base64.getUrlEncoder().encodeToString("departureDateTime|ASC|soon|1".getBytes());
+		assertBadRequest(() -> FlightService.decodeCursor(badDate, "departureDateTime", Sort.Direction.ASC,
+				LocalDateTime::parse));
+	}
+
+	private static void assertBadRequest(Runnable decode) {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class, decode::run);
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+	}
+}
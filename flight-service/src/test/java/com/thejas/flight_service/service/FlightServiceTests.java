@@ -0,0 +1,135 @@
+package com.thejas.flight_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thejas.flight_service.TestFlights;
+import com.thejas.flight_service.config.ReplicaReads;
+import com.thejas.flight_service.dto.FlightSummary;
+import com.thejas.flight_service.entity.Flight;
+import com.thejas.flight_service.index.DepartureTimeline;
+import com.thejas.flight_service.index.FareCalendarIndex;
+import com.thejas.flight_service.index.FlightCatalog;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.index.FlightVersions;
+import com.thejas.flight_service.index.OccupancyIndex;
+import com.thejas.flight_service.index.ServedRoutes;
+import com.thejas.flight_service.repository.FlightBatchWriter;
+import com.thejas.flight_service.repository.FlightRepository;
+import com.thejas.flight_service.repository.FlightSeatWriter;
+
+import jakarta.persistence.EntityManager;
+
+class FlightServiceTests {
+
+	private final FlightRepository flightRepository = mock(FlightRepository.class);
+	private final FlightSearchIndex flightSearchIndex = mock(FlightSearchIndex.class);
+	private final PricingEngine pricingEngine = mock(PricingEngine.class);
+	private final ReplicaReads replicaReads = mock(ReplicaReads.class);
+	private final FlightSeatWriter flightSeatWriter = mock(FlightSeatWriter.class);
+	private final FlightService service = new FlightService(flightRepository, mock(EntityManager.class),
+			new ObjectMapper(), flightSearchIndex, mock(DepartureTimeline.class), mock(OccupancyIndex.class),
+			mock(ServedRoutes.class), mock(FlightCatalog.class), mock(FareCalendarIndex.class), pricingEngine,
+			mock(FlightBatchWriter.class), flightSeatWriter, mock(FlightVersions.class),
+			mock(TransactionTemplate.class), replicaReads);
+
+	private static Flight row(long version, int availableSeats) {
+		Flight flight = TestFlights.flight();
+		flight.setAvailableSeats(availableSeats);
+		flight.setVersion(version);
+		return flight;
+	}
+
+	private void replicaHas(Flight flight) {
+		when(replicaReads.execute(any())).thenReturn(Optional.ofNullable(flight));
+	}
+
+	private void indexHasVersion(long version) {
+		FlightSummary indexed = FlightSummary.from(row(version, 0));
+		when(flightSearchIndex.get(1L)).thenReturn(indexed);
+	}
+
+	@BeforeEach
+	void prices() {
+		when(pricingEngine.liveFare(any())).thenReturn(100.0);
+	}
+
+	@Test
+	void answersTaggedReadsFromACaughtUpReplica() {
+		replicaHas(row(5, 40));
+		indexHasVersion(5);
+
+		assertEquals(40, service.getFlightById(1L, true).orElseThrow().getAvailableSeats());
+		verify(flightRepository, never()).findById(1L);
+	}
+
+	@Test
+	void fallsBackToThePrimaryWhenTheReplicaIsBehind() {
+		replicaHas(row(4, 42));
+		indexHasVersion(5);
+		when(flightRepository.findById(1L)).thenReturn(Optional.of(row(5, 40)));
+
+		assertEquals(40, service.getFlightById(1L, true).orElseThrow().getAvailableSeats());
+	}
+
+	@Test
+	void fallsBackToThePrimaryWhenTheReplicaLacksTheRow() {
+		replicaHas(null);
+		indexHasVersion(0);
+		when(flightRepository.findById(1L)).thenReturn(Optional.of(row(0, 40)));
+
+		assertEquals(40, service.getFlightById(1L, true).orElseThrow().getAvailableSeats());
+	}
+
+	@Test
+	void keepsUntaggedReadsOnTheReplica() {
+		replicaHas(row(4, 42));
+		indexHasVersion(5);
+
+		assertEquals(42, service.getFlightById(1L, false).orElseThrow().getAvailableSeats());
+		verify(flightRepository, never()).findById(1L);
+	}
+
+	@Test
+	void rejectsNonPositiveSeatCounts() {
+		assertThrows(ResponseStatusException.class, () -> service.reduceSeats(1L, 0));
+		assertThrows(ResponseStatusException.class, () -> service.reduceSeats(1L, -2));
+		assertThrows(ResponseStatusException.class, () -> service.restoreSeats(1L, -2));
+		verifyNoInteractions(flightSeatWriter);
+	}
+
+	@Test
+	void restoresSeatsIntoTheIndex() {
+		when(flightSeatWriter.incrementSeats(1L, 2)).thenReturn(1);
+
+		service.restoreSeats(1L, 2);
+
+		verify(flightSearchIndex).adjustSeats(1L, 2);
+	}
+
+	@Test
+	void refusesToRestorePastTotalSeats() {
+		when(flightSeatWriter.incrementSeats(1L, 2)).thenReturn(0);
+		when(flightRepository.existsById(1L)).thenReturn(true);
+
+		ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> service.restoreSeats(1L, 2));
+		assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+		verify(flightSearchIndex, never()).adjustSeats(any(), anyInt());
+	}
+}
@@ -0,0 +1,111 @@
+package com.thejas.flight_service.service;
+
+import static com.thejas.flight_service.TestFlights.summary;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.thejas.flight_service.config.ItinerarySearchProperties;
+import com.thejas.flight_service.dto.ItineraryResults;
+import com.thejas.flight_service.index.FlightSearchIndex;
+import com.thejas.flight_service.index.RouteGraph;
+import com.thejas.flight_service.index.ServedRoutes;
+
+class ItinerarySearchServiceTests {
+
+	private static final LocalDate DATE = LocalDate.of(2026, 11, 2);
+
+	private final FlightSearchIndex flightSearchIndex = mock(FlightSearchIndex.class);
+	private final RouteGraph routeGraph = mock(RouteGraph.class);
+	private final ServedRoutes servedRoutes = mock(ServedRoutes.class);
+	private final PricingEngine pricingEngine = mock(PricingEngine.class);
+	private final ItinerarySearchProperties properties = new ItinerarySearchProperties();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		properties.setBudget(Duration.ofMillis(100));
+		when(servedRoutes.servesAirports(anyString(), anyString())).thenReturn(true);
+		when(servedRoutes.mayServe(anyString(), anyString(), any())).thenReturn(true);
+		when(flightSearchIndex.isReady()).thenReturn(true);
+		when(pricingEngine.withLiveFare(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(routeGraph.departures(eq("DEL"), any(), any())).thenReturn(List.of(
+				summary(1, 5000, DATE.atTime(8, 0)),
+				summary(2, 5000, DATE.atTime(12, 0))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void searchesFirstLegsOnTheExecutor() {
+		executor = pool(2, 10);
+
+		ItineraryResults results = search();
+
+		assertFalse(results.isPartial());
+		assertEquals(2, results.getItineraries().size());
+	}
+
+	@Test
+	void timeWaitingForAThreadCountsAgainstTheBudget() {
+		executor = pool(1, 10);
+		executor.submit(this::block);
+
+		long start = System.nanoTime();
+		ItineraryResults results = search();
+
+		assertTrue(results.isPartial());
+		assertTrue(results.getItineraries().isEmpty());
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+	}
+
+	@Test
+	void fullQueueReturnsPartialResults() {
+		executor = pool(1, 1);
+		executor.submit(this::block);
+
+		assertTrue(search().isPartial());
+	}
+
+	private ItineraryResults search() {
+		ItinerarySearchService service = new ItinerarySearchService(flightSearchIndex, routeGraph, servedRoutes,
+				pricingEngine, properties, executor);
+		return service.search("DEL", "BOM", DATE, 0, Duration.ofMinutes(45), Duration.ofHours(6), 1, "price", 10);
+	}
+
+	private void block() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static ExecutorService pool(int threads, int queueCapacity) {
+		return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity));
+	}
+}
@@ -0,0 +1,113 @@
+package com.thejas.flight_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.thejas.flight_service.entity.SeatHold;
+import com.thejas.flight_service.repository.SeatHoldRepository;
+
+class SeatHoldServiceTests {
+
+	private final SeatHoldRepository seatHoldRepository = mock(SeatHoldRepository.class);
+	private final FlightService flightService = mock(FlightService.class);
+	private final SeatMapService seatMapService = mock(SeatMapService.class);
+	private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+	private final SeatHoldService service =
+			new SeatHoldService(seatHoldRepository, flightService, seatMapService, transactionTemplate);
+
+	private final SeatHold hold = new SeatHold();
+
+	private static Authentication caller(String name, String role) {
+		return new UsernamePasswordAuthenticationToken(name, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		hold.setId(7L);
+		hold.setFlightId(3L);
+		hold.setNumSeats(2);
+		hold.setOwner("alice");
+		when(seatHoldRepository.findById(7L)).thenReturn(Optional.of(hold));
+		doAnswer(invocation -> {
+			invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	void showsAHoldToItsOwnerAndAdmins() {
+		assertSame(hold, service.getHold(7L, caller("alice", "USER")));
+		assertSame(hold, service.getHold(7L, caller("ops", "ADMIN")));
+	}
+
+	@Test
+	void hidesAHoldFromOtherUsers() {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class,
+				() -> service.getHold(7L, caller("mallory", "USER")));
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+	}
+
+	@Test
+	void letsTheOwnerReleaseTheirHold() {
+		when(seatHoldRepository.transition(7L, List.of(SeatHold.HELD, SeatHold.COMMITTED), SeatHold.RELEASED))
+				.thenReturn(1);
+
+		service.releaseHold(7L, caller("alice", "USER"));
+
+		verify(flightService).restoreSeats(3L, 2);
+		verify(seatMapService).releaseHoldSeats(hold);
+	}
+
+	@Test
+	void letsAdminsReleaseAnyHold() {
+		when(seatHoldRepository.transition(7L, List.of(SeatHold.HELD, SeatHold.COMMITTED), SeatHold.RELEASED))
+				.thenReturn(1);
+
+		service.releaseHold(7L, caller("ops", "ADMIN"));
+
+		verify(flightService).restoreSeats(3L, 2);
+	}
+
+	@Test
+	void refusesToReleaseAnotherUsersHold() {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class,
+				() -> service.releaseHold(7L, caller("mallory", "USER")));
+
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatusCode());
+		verify(seatHoldRepository, never()).transition(anyLong(), anyList(), any());
+		verifyNoInteractions(flightService, seatMapService);
+	}
+
+	@Test
+	void refusesHoldsWithoutAnOwnerToUsers() {
+		hold.setOwner(null);
+
+		assertThrows(ResponseStatusException.class, () -> service.releaseHold(7L, caller("alice", "USER")));
+		assertSame(hold, service.getHold(7L, caller("ops", "ADMIN")));
+	}
+}
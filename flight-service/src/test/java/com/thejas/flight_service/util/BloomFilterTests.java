@@ -0,0 +1,109 @@
+package com.thejas.flight_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTests {
+
+	@Test
+	void neverMissesAnAddedKey() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (long key = 0; key < 10_000; key++) {
+			filter.add(key * 7919);
+		}
+
+		for (long key = 0; key < 10_000; key++) {
+			assertTrue(filter.mightContain(key * 7919));
+		}
+	}
+
+	@Test
+	void keepsFalsePositivesNearTheConfiguredRate() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (long key = 0; key < 10_000; key++) {
+			filter.add(key);
+		}
+
+		int falsePositives = 0;
+		for (long key = 1_000_000; key < 1_100_000; key++) {
+			if (filter.mightContain(key)) {
+				falsePositives++;
+			}
+		}
+		// 1% of 100 000 probes, with room for variance
+		assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+	}
+
+	@Test
+	void handlesNegativeAndExtremeKeys() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+		long[] keys = { Long.MIN_VALUE, -1, 0, Long.MAX_VALUE };
+		for (long key : keys) {
+			filter.add(key);
+		}
+
+		for (long key : keys) {
+			assertTrue(filter.mightContain(key));
+		}
+	}
+
+	@Test
+	void reportsSaturationOncePastExpectedInsertions() {
+		BloomFilter filter = new BloomFilter(100, 0.01);
+		for (long key = 0; key < 100; key++) {
+			filter.add(key);
+		}
+		// Re-adding known keys sets no new bits and does not count
+		for (long key = 0; key < 100; key++) {
+			filter.add(key);
+		}
+		assertFalse(filter.isSaturated());
+
+		for (long key = 100; key < 200; key++) {
+			filter.add(key);
+		}
+		assertTrue(filter.isSaturated());
+	}
+
+	@Test
+	void keepsEveryKeyAddedConcurrently() throws Exception {
+		BloomFilter filter = new BloomFilter(80_000, 0.01);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				long offset = t * 10_000L;
+				futures.add(executor.submit(() -> {
+					for (long key = offset; key < offset + 10_000; key++) {
+						filter.add(key);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		for (long key = 0; key < 80_000; key++) {
+			assertTrue(filter.mightContain(key));
+		}
+	}
+
+	@Test
+	void rejectsInvalidSizing() {
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+	}
+}
@@ -0,0 +1,81 @@
+package com.thejas.flight_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTests {
+
+	@Test
+	void firesAtTheFirstTickBoundaryAtOrAfterTheDeadline() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 0);
+		wheel.schedule("a", 250);
+
+		assertEquals(List.of(), wheel.advance(299));
+		assertEquals(List.of("a"), wheel.advance(300));
+		assertEquals(List.of(), wheel.advance(1_000));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void pastDeadlinesFireOnTheNextAdvance() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 8, 1_000);
+		wheel.schedule("late", 500);
+
+		assertEquals(1, wheel.size());
+		assertEquals(List.of("late"), wheel.advance(1_000));
+	}
+
+	@Test
+	void cascadesDeadlinesBeyondTheFirstLevel() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+		// 4 slots per level: 1000 ticks ahead needs five levels
+		wheel.schedule("far", 1_000);
+		wheel.schedule("near", 3);
+
+		assertEquals(List.of("near"), wheel.advance(999));
+		assertEquals(List.of("far"), wheel.advance(1_000));
+	}
+
+	@Test
+	void randomScheduleFiresEveryItemOnceNeverEarlyAndNeverSkipped() {
+		long tick = 10;
+		HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(tick, 8, 0);
+		Random random = new Random(42);
+		Map<Integer, Long> deadlines = new HashMap<>();
+		for (int i = 0; i < 5_000; i++) {
+			long deadline = random.nextInt(200_000);
+			deadlines.put(i, deadline);
+			wheel.schedule(i, deadline);
+		}
+
+		Set<Integer> fired = new HashSet<>();
+		long previous = -1;
+		for (long now = 0; now <= 210_000; now += 1 + random.nextInt(500)) {
+			for (Integer item : wheel.advance(now)) {
+				long dueAt = Math.floorDiv(deadlines.get(item) + tick - 1, tick) * tick;
+				assertTrue(fired.add(item), "fired twice: " + item);
+				assertTrue(dueAt <= now, "fired early: " + item);
+				assertTrue(dueAt > previous, "fired late: " + item);
+			}
+			previous = now;
+		}
+		assertEquals(deadlines.keySet(), fired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void rejectsInvalidGeometry() {
+		assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(0, 8, 0));
+		assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(10, 1, 0));
+	}
+}
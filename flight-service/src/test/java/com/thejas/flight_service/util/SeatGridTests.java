@@ -0,0 +1,90 @@
+package com.thejas.flight_service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SeatGridTests {
+
+	@Test
+	void findsAdjacentSeatsWithoutCrossingAnAisle() {
+		SeatGrid grid = new SeatGrid("ABC DEF", 10, 2, null);
+		grid.occupy(List.of("10B"));
+
+		// Row 10 has A, C and D E F free, but only D E F are together
+		assertEquals(List.of("10D", "10E", "10F"), grid.findAdjacent(3));
+		assertEquals(List.of("10D", "10E"), grid.findAdjacent(2));
+	}
+
+	@Test
+	void fallsBackToOneRowAcrossTheAisle() {
+		SeatGrid grid = new SeatGrid("AB CD", 1, 2, null);
+		grid.occupy(List.of("1B", "2A", "2D"));
+
+		assertEquals(List.of(), grid.findAdjacent(3));
+		assertEquals(List.of("1A", "1C", "1D"), grid.findInOneRow(3));
+		assertEquals(List.of(), grid.findInOneRow(5));
+	}
+
+	@Test
+	void occupiesAllOrNothing() {
+		SeatGrid grid = new SeatGrid("ABC", 1, 3, null);
+		grid.occupy(List.of("2B"));
+
+		assertThrows(IllegalStateException.class, () -> grid.occupy(List.of("1A", "2B")));
+		assertFalse(grid.isOccupied("1A"));
+		assertThrows(IllegalStateException.class, () -> grid.occupy(List.of("3C", "3c")));
+		assertEquals(1, grid.occupiedCount());
+	}
+
+	@Test
+	void releaseIsIdempotent() {
+		SeatGrid grid = new SeatGrid("AB", 1, 1, null);
+		grid.occupy(List.of("1A"));
+		grid.release(List.of("1A"));
+		grid.release(List.of("1A"));
+
+		assertEquals(0, grid.occupiedCount());
+	}
+
+	@Test
+	void roundTripsThroughTheStoredBitset() {
+		SeatGrid grid = new SeatGrid("ABC DEF", 5, 30, null);
+		grid.occupy(List.of("5A", "17F", "34C"));
+
+		SeatGrid restored = new SeatGrid("ABC DEF", 5, 30, grid.toByteArray());
+		assertEquals(List.of("5A", "17F", "34C"), restored.occupiedSeats());
+		assertEquals(180, restored.capacity());
+	}
+
+	@Test
+	void normalizesSeatLabels() {
+		SeatGrid grid = new SeatGrid("ABC", 1, 20, null);
+
+		assertEquals("12A", grid.canonical(" 012a"));
+		grid.occupy(List.of("012a"));
+		assertTrue(grid.isOccupied("12A"));
+	}
+
+	@Test
+	void rejectsSeatsOutsideTheCabin() {
+		SeatGrid grid = new SeatGrid("ABC", 10, 5, null);
+
+		assertThrows(IllegalArgumentException.class, () -> grid.isOccupied("9A"));
+		assertThrows(IllegalArgumentException.class, () -> grid.isOccupied("15A"));
+		assertThrows(IllegalArgumentException.class, () -> grid.isOccupied("10D"));
+		assertThrows(IllegalArgumentException.class, () -> grid.isOccupied("A"));
+	}
+
+	@Test
+	void rejectsInvalidLayouts() {
+		assertThrows(IllegalArgumentException.class, () -> new SeatGrid("ABA", 1, 1, null));
+		assertThrows(IllegalArgumentException.class, () -> new SeatGrid("ab", 1, 1, null));
+		assertThrows(IllegalArgumentException.class, () -> new SeatGrid("ABC", 1, 0, null));
+	}
+}